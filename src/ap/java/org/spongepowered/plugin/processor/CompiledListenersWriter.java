@@ -0,0 +1,505 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.plugin.processor;
+
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.event.CompiledListeners;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.filter.CoalesceMovement;
+import org.spongepowered.api.event.filter.Getter;
+import org.spongepowered.api.event.filter.IsCancelled;
+import org.spongepowered.api.event.filter.cause.After;
+import org.spongepowered.api.event.filter.cause.All;
+import org.spongepowered.api.event.filter.cause.Before;
+import org.spongepowered.api.event.filter.cause.ContextValue;
+import org.spongepowered.api.event.filter.cause.First;
+import org.spongepowered.api.event.filter.cause.Last;
+import org.spongepowered.api.event.filter.cause.Root;
+import org.spongepowered.api.event.filter.data.Has;
+import org.spongepowered.api.event.filter.data.Supports;
+import org.spongepowered.api.event.filter.type.Exclude;
+import org.spongepowered.api.event.filter.type.Include;
+import org.spongepowered.api.util.Tristate;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import javax.annotation.Nullable;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.QualifiedNameable;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Generates the {@link CompiledListeners} class of a listener class.
+ *
+ * <p>The filter annotations of a listener method are compiled into straight
+ * line checks in front of the listener call. Methods using a filter
+ * combination which cannot be checked at compile time are left to the
+ * runtime path.</p>
+ */
+final class CompiledListenersWriter {
+
+    private static final String SUFFIX = "_CompiledListeners";
+    private static final String OPTIONAL = "java.util.Optional";
+
+    // Annotations providing the value of a listener parameter
+    private static final List<Class<? extends Annotation>> SOURCES = ImmutableList.of(
+            First.class, Last.class, Root.class, Before.class, After.class, ContextValue.class, All.class, Getter.class);
+
+    private final ProcessingEnvironment processingEnv;
+    private final Elements elements;
+    private final Types types;
+    private final TypeElement listenerClass;
+    private final List<ExecutableElement> methods = new ArrayList<>();
+    private final List<List<String>> bodies = new ArrayList<>();
+
+    CompiledListenersWriter(ProcessingEnvironment processingEnv, TypeElement listenerClass) {
+        this.processingEnv = processingEnv;
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.listenerClass = listenerClass;
+    }
+
+    /**
+     * Gets whether invokers can be generated for the given listener class,
+     * which has to be accessible from its package and must not be generic.
+     */
+    static boolean canCompile(TypeElement listenerClass) {
+        if (!listenerClass.getTypeParameters().isEmpty()) {
+            return false;
+        }
+        for (Element element = listenerClass; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            final NestingKind nesting = ((TypeElement) element).getNestingKind();
+            if (element.getModifiers().contains(Modifier.PRIVATE) || (nesting != NestingKind.TOP_LEVEL && nesting != NestingKind.MEMBER)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compiles the invoker of an otherwise valid listener method, unless it
+     * uses parameters or filters which can only be handled at runtime.
+     *
+     * @return Whether the method was compiled
+     */
+    boolean add(ExecutableElement method) {
+        final List<String> body = compile(method);
+        if (body == null) {
+            return false;
+        }
+        this.methods.add(method);
+        this.bodies.add(body);
+        return true;
+    }
+
+    TypeElement getListenerClass() {
+        return this.listenerClass;
+    }
+
+    @Nullable
+    private List<String> compile(ExecutableElement method) {
+        // Coalesced movement listeners need the event manager to aggregate the events
+        if (!method.getTypeParameters().isEmpty() || method.getAnnotation(CoalesceMovement.class) != null) {
+            return null;
+        }
+        final TypeMirror exception = type(Exception.class.getName());
+        for (TypeMirror thrown : method.getThrownTypes()) {
+            if (!this.types.isAssignable(thrown, exception)) {
+                return null;
+            }
+        }
+        final TypeMirror eventType = method.getParameters().get(0).asType();
+        if (eventType.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+
+        final List<String> body = new ArrayList<>();
+        final StringJoiner arguments = new StringJoiner(", ");
+        arguments.add("event");
+
+        // Listeners of cancellable events are skipped for cancelled events unless told otherwise
+        final IsCancelled isCancelled = method.getAnnotation(IsCancelled.class);
+        final boolean cancellable = this.types.isAssignable(eventType, type("org.spongepowered.api.event.Cancellable"));
+        if (isCancelled != null && !cancellable) {
+            return null;
+        }
+        final Tristate cancelled = isCancelled == null ? Tristate.FALSE : isCancelled.value();
+        if (cancellable && cancelled != Tristate.UNDEFINED) {
+            skipIf(body, cancelled.asBoolean() ? "!event.isCancelled()" : "event.isCancelled()");
+        }
+
+        final List<TypeMirror> include = classValues(method, Include.class, "value");
+        final List<TypeMirror> exclude = classValues(method, Exclude.class, "value");
+        if (include != null && exclude != null) {
+            return null;
+        }
+        if (include != null) {
+            skipIf(body, "!(" + instanceOf("event", include) + ")");
+        } else if (exclude != null) {
+            skipIf(body, instanceOf("event", exclude));
+        }
+
+        final List<? extends VariableElement> parameters = method.getParameters();
+        for (int i = 1; i < parameters.size(); i++) {
+            final String name = "arg" + i;
+            if (!compileParameter(body, (DeclaredType) eventType, parameters.get(i), name)) {
+                return null;
+            }
+            arguments.add(name);
+        }
+
+        body.add("this.listener." + method.getSimpleName() + "(" + arguments + ");");
+        return body;
+    }
+
+    private boolean compileParameter(List<String> body, DeclaredType eventType, VariableElement parameter, String name) {
+        final TypeMirror type = parameter.asType();
+        final List<Class<? extends Annotation>> sources = new ArrayList<>();
+        for (Class<? extends Annotation> source : SOURCES) {
+            if (parameter.getAnnotation(source) != null) {
+                sources.add(source);
+            }
+        }
+        if (sources.size() != 1) {
+            return false;
+        }
+
+        final Class<? extends Annotation> source = sources.get(0);
+        if (source == First.class || source == Last.class) {
+            if (!isPlainClass(type)) {
+                return false;
+            }
+            final String method = source == First.class ? "first" : "last";
+            body.add("final " + OPTIONAL + "<" + type + "> " + name + "Optional = event.getCause()." + method + "(" + type + ".class);");
+            skipIf(body, "!" + name + "Optional.isPresent()");
+            body.add("final " + type + " " + name + " = " + name + "Optional.get();");
+        } else if (source == Root.class) {
+            if (!assign(body, name, "event.getCause().root()", type(Object.class.getName()), type)) {
+                return false;
+            }
+        } else if (source == Before.class || source == After.class) {
+            final List<TypeMirror> target = classValues(parameter, source, "value");
+            final String method = source == Before.class ? "before" : "after";
+            body.add("final " + OPTIONAL + "<?> " + name + "Optional = event.getCause()." + method + "("
+                    + this.types.erasure(target.get(0)) + ".class);");
+            skipIf(body, "!" + name + "Optional.isPresent()");
+            if (!assign(body, name, name + "Optional.get()", type(Object.class.getName()), type)) {
+                return false;
+            }
+        } else if (source == ContextValue.class) {
+            final String keys = "org.spongepowered.api.event.cause.EventContextKeys";
+            final String key = parameter.getAnnotation(ContextValue.class).value();
+            if (!hasField(keys, key)) {
+                return false;
+            }
+            body.add("final " + OPTIONAL + "<?> " + name + "Optional = event.getCause().getContext().get(" + keys + "." + key + ");");
+            skipIf(body, "!" + name + "Optional.isPresent()");
+            if (!assign(body, name, name + "Optional.get()", type(Object.class.getName()), type)) {
+                return false;
+            }
+        } else if (source == All.class) {
+            if (type.getKind() != TypeKind.ARRAY || !isPlainClass(((ArrayType) type).getComponentType())) {
+                return false;
+            }
+            final TypeMirror component = ((ArrayType) type).getComponentType();
+            body.add("final java.util.List<" + component + "> " + name + "List = event.getCause().allOf(" + component + ".class);");
+            if (parameter.getAnnotation(All.class).ignoreEmpty()) {
+                skipIf(body, name + "List.isEmpty()");
+            }
+            body.add("final " + type + " " + name + " = " + name + "List.toArray(new " + component + "[" + name + "List.size()]);");
+        } else if (!compileGetter(body, eventType, parameter, name)) {
+            return false;
+        }
+
+        if (source != All.class && source != Getter.class) {
+            final List<TypeMirror> typeFilter = classValues(parameter, source, "typeFilter");
+            if (!typeFilter.isEmpty()) {
+                final boolean inverse = (Boolean) annotationValue(parameter, source, "inverse");
+                skipIf(body, inverse ? instanceOf(name, typeFilter) : "!(" + instanceOf(name, typeFilter) + ")");
+            }
+        }
+        return compileDataFilters(body, parameter, name);
+    }
+
+    private boolean compileGetter(List<String> body, DeclaredType eventType, VariableElement parameter, String name) {
+        final TypeMirror type = parameter.asType();
+        final String getter = parameter.getAnnotation(Getter.class).value();
+        ExecutableElement method = null;
+        for (ExecutableElement candidate : ElementFilter.methodsIn(this.elements.getAllMembers((TypeElement) eventType.asElement()))) {
+            if (candidate.getSimpleName().contentEquals(getter) && candidate.getParameters().isEmpty()
+                    && !candidate.getModifiers().contains(Modifier.STATIC)) {
+                method = candidate;
+                break;
+            }
+        }
+        if (method == null) {
+            return false;
+        }
+        final TypeMirror returnType = ((ExecutableType) this.types.asMemberOf(eventType, method)).getReturnType();
+        final String call = "event." + getter + "()";
+        if (this.types.isAssignable(returnType, type)) {
+            body.add("final " + type + " " + name + " = " + call + ";");
+            return true;
+        }
+        if (returnType.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        if (this.types.isSameType(this.types.erasure(returnType), this.types.erasure(type(OPTIONAL)))) {
+            // Unwrap optional getters, skipping the listener if the value is absent
+            final List<? extends TypeMirror> typeArguments = ((DeclaredType) returnType).getTypeArguments();
+            final TypeMirror valueType = typeArguments.isEmpty() || typeArguments.get(0).getKind() != TypeKind.DECLARED
+                    ? type(Object.class.getName()) : typeArguments.get(0);
+            body.add("final " + returnType + " " + name + "Optional = " + call + ";");
+            skipIf(body, "!" + name + "Optional.isPresent()");
+            return assign(body, name, name + "Optional.get()", valueType, type);
+        }
+        return assign(body, name, call, returnType, type);
+    }
+
+    private boolean compileDataFilters(List<String> body, VariableElement parameter, String name) {
+        final boolean has = parameter.getAnnotation(Has.class) != null;
+        final boolean supports = parameter.getAnnotation(Supports.class) != null;
+        if (!has && !supports) {
+            return true;
+        }
+        if (!this.types.isAssignable(parameter.asType(), type("org.spongepowered.api.data.DataHolder"))) {
+            return false;
+        }
+        if (has) {
+            final String manipulator = this.types.erasure(classValues(parameter, Has.class, "value").get(0)) + ".class";
+            final boolean inverse = (Boolean) annotationValue(parameter, Has.class, "inverse");
+            skipIf(body, (inverse ? "" : "!") + name + ".get(" + manipulator + ").isPresent()");
+        }
+        if (supports) {
+            final String manipulator = this.types.erasure(classValues(parameter, Supports.class, "value").get(0)) + ".class";
+            final boolean inverse = (Boolean) annotationValue(parameter, Supports.class, "inverse");
+            skipIf(body, (inverse ? "" : "!") + name + ".supports(" + manipulator + ")");
+        }
+        return true;
+    }
+
+    /**
+     * Assigns the value of an expression to a new variable, checking its type
+     * first if it isn't known to be assignable at compile time.
+     */
+    private boolean assign(List<String> body, String name, String expression, TypeMirror expressionType, TypeMirror type) {
+        if (this.types.isAssignable(expressionType, type)) {
+            body.add("final " + type + " " + name + " = " + expression + ";");
+            return true;
+        }
+        if (!isPlainClass(type) || expressionType.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        body.add("final Object " + name + "Value = " + expression + ";");
+        skipIf(body, "!(" + name + "Value instanceof " + type + ")");
+        body.add("final " + type + " " + name + " = (" + type + ") " + name + "Value;");
+        return true;
+    }
+
+    private static void skipIf(List<String> body, String condition) {
+        body.add("if (" + condition + ") {");
+        body.add("    return;");
+        body.add("}");
+    }
+
+    private String instanceOf(String name, List<TypeMirror> classes) {
+        final StringJoiner joiner = new StringJoiner(" || ");
+        for (TypeMirror type : classes) {
+            joiner.add(name + " instanceof " + this.types.erasure(type));
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * Gets whether the type is a class type that can be used both in a class
+     * literal and in an instanceof check.
+     */
+    private static boolean isPlainClass(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED && ((DeclaredType) type).getTypeArguments().isEmpty();
+    }
+
+    private boolean hasField(String className, String fieldName) {
+        final TypeElement element = this.elements.getTypeElement(className);
+        if (element == null) {
+            return false;
+        }
+        for (Element enclosed : element.getEnclosedElements()) {
+            if (enclosed.getKind() == ElementKind.FIELD && enclosed.getSimpleName().contentEquals(fieldName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private TypeMirror type(String className) {
+        return this.types.erasure(this.elements.getTypeElement(className).asType());
+    }
+
+    @Nullable
+    private Object annotationValue(Element element, Class<? extends Annotation> annotationClass, String name) {
+        final String annotationName = annotationClass.getName();
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((QualifiedNameable) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName)) {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                        : this.elements.getElementValuesWithDefaults(mirror).entrySet()) {
+                    if (entry.getKey().getSimpleName().contentEquals(name)) {
+                        return entry.getValue().getValue();
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads a class or class array annotation value, which is not possible
+     * through the annotation instance during annotation processing.
+     *
+     * @return The classes, or null if the element is not annotated
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    private List<TypeMirror> classValues(Element element, Class<? extends Annotation> annotationClass, String name) {
+        final Object value = annotationValue(element, annotationClass, name);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof TypeMirror) {
+            return Collections.singletonList((TypeMirror) value);
+        }
+        final List<TypeMirror> classes = new ArrayList<>();
+        for (AnnotationValue entry : (List<? extends AnnotationValue>) value) {
+            classes.add((TypeMirror) entry.getValue());
+        }
+        return classes;
+    }
+
+    String getBinaryName() {
+        final PackageElement pkg = this.elements.getPackageOf(this.listenerClass);
+        return pkg.isUnnamed() ? getSimpleName() : pkg.getQualifiedName() + "." + getSimpleName();
+    }
+
+    private String getSimpleName() {
+        final PackageElement pkg = this.elements.getPackageOf(this.listenerClass);
+        String name = this.listenerClass.getQualifiedName().toString();
+        if (!pkg.isUnnamed()) {
+            name = name.substring(pkg.getQualifiedName().length() + 1);
+        }
+        return name.replace('.', '_') + SUFFIX;
+    }
+
+    void write() throws IOException {
+        final PackageElement pkg = this.elements.getPackageOf(this.listenerClass);
+        final String listenerType = this.listenerClass.getQualifiedName().toString();
+        final String simpleName = getSimpleName();
+        final String compiledListeners = CompiledListeners.class.getCanonicalName();
+
+        try (PrintWriter out = new PrintWriter(this.processingEnv.getFiler().createSourceFile(getBinaryName(), this.listenerClass).openWriter())) {
+            if (!pkg.isUnnamed()) {
+                out.println("package " + pkg.getQualifiedName() + ";");
+                out.println();
+            }
+            out.println("/**");
+            out.println(" * Compiled listeners of {@link " + listenerType + "}, generated by the Sponge annotation processor.");
+            out.println(" */");
+            out.println("public final class " + simpleName + " implements " + compiledListeners + "<" + listenerType + "> {");
+            out.println();
+            out.println("    @Override");
+            out.println("    public Class<" + listenerType + "> getListenerClass() {");
+            out.println("        return " + listenerType + ".class;");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public void register(" + listenerType + " listener, " + compiledListeners + ".Registrar registrar) {");
+            for (int i = 0; i < this.methods.size(); i++) {
+                final ExecutableElement method = this.methods.get(i);
+                final Listener annotation = method.getAnnotation(Listener.class);
+                out.println("        registrar.register(" + typeToken(method.getParameters().get(0).asType()) + ", \""
+                        + method.getSimpleName() + "\", " + Order.class.getCanonicalName() + "." + annotation.order().name() + ", "
+                        + annotation.beforeModifications() + ", " + annotation.async() + ", new Invoker" + i + "(listener));");
+            }
+            out.println("    }");
+            for (int i = 0; i < this.methods.size(); i++) {
+                final ExecutableElement method = this.methods.get(i);
+                final String eventType = method.getParameters().get(0).asType().toString();
+                out.println();
+                out.println("    private static final class Invoker" + i + " implements " + EventListener.class.getCanonicalName()
+                        + "<" + eventType + "> {");
+                out.println();
+                out.println("        private final " + listenerType + " listener;");
+                out.println();
+                out.println("        Invoker" + i + "(" + listenerType + " listener) {");
+                out.println("            this.listener = listener;");
+                out.println("        }");
+                out.println();
+                out.println("        @Override");
+                out.println("        public void handle(" + eventType + " event) throws Exception {");
+                for (String line : this.bodies.get(i)) {
+                    out.println("            " + line);
+                }
+                out.println("        }");
+                out.println();
+                out.println("    }");
+            }
+            out.println();
+            out.println("}");
+        }
+    }
+
+    private static String typeToken(TypeMirror type) {
+        final String typeToken = "com.google.common.reflect.TypeToken";
+        if (((DeclaredType) type).getTypeArguments().isEmpty()) {
+            return typeToken + ".of(" + type + ".class)";
+        }
+        return "new " + typeToken + "<" + type + ">() {}";
+    }
+
+}
@@ -25,13 +25,23 @@
 package org.spongepowered.plugin.processor;
 
 import static javax.tools.Diagnostic.Kind.ERROR;
+import static javax.tools.StandardLocation.CLASS_OUTPUT;
 
+import org.spongepowered.api.event.CompiledListeners;
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.entity.MoveEntityEvent;
+import org.spongepowered.api.event.filter.CoalesceMovement;
 
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import javax.annotation.Nullable;
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.Messager;
 import javax.annotation.processing.RoundEnvironment;
@@ -46,6 +56,7 @@
 import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic;
@@ -56,10 +67,23 @@ public class ListenerProcessor extends AbstractProcessor {
 
     static final String LISTENER_ANNOTATION_CLASS = "org.spongepowered.api.event.Listener";
     private static final String EVENT_CLASS = Event.class.getName();
+    private static final String MOVE_ENTITY_EVENT_CLASS = MoveEntityEvent.class.getName();
+
+    // Listener class binary name -> compiled listeners class binary name
+    private final Map<String, String> index = new LinkedHashMap<>();
 
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (!roundEnv.errorRaised() && !this.index.isEmpty()) {
+                writeIndex();
+            }
+            return false;
+        }
+
         if (ProcessorUtils.contains(annotations, Listener.class)) {
+            final Map<TypeElement, CompiledListenersWriter> compiled = new LinkedHashMap<>();
+            final Set<TypeElement> incomplete = new HashSet<>();
             for (Element e : roundEnv.getElementsAnnotatedWith(Listener.class)) {
                 if (e.getKind() != ElementKind.METHOD) {
                     this.processingEnv.getMessager().printMessage(ERROR, "Invalid element of type " + e.getKind() + " annotated with @Listener", e);
@@ -67,32 +91,107 @@ public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment
                 }
                 ExecutableElement method = (ExecutableElement) e;
 
-                Messager msg = this.processingEnv.getMessager();
-                if (method.getModifiers().contains(Modifier.STATIC)) {
-                    msg.printMessage(Diagnostic.Kind.ERROR, "method must not be static", method);
+                if (isValid(method, this.processingEnv.getMessager())) {
+                    final TypeElement listenerClass = (TypeElement) method.getEnclosingElement();
+                    if (CompiledListenersWriter.canCompile(listenerClass)) {
+                        final CompiledListenersWriter writer =
+                                compiled.computeIfAbsent(listenerClass, k -> new CompiledListenersWriter(this.processingEnv, k));
+                        if (!writer.add(method)) {
+                            incomplete.add(listenerClass);
+                        }
+                    }
                 }
-                if (!method.getModifiers().contains(Modifier.PUBLIC)) {
-                    msg.printMessage(Diagnostic.Kind.ERROR, "method must be public", method);
-                }
-                if (method.getModifiers().contains(Modifier.ABSTRACT)) {
-                    msg.printMessage(Diagnostic.Kind.ERROR, "method must not be abstract", method);
-                }
-                if (method.getEnclosingElement().getKind().isInterface()) {
-                    msg.printMessage(Diagnostic.Kind.ERROR, "interfaces cannot declare listeners", method);
-                }
-                if (method.getReturnType().getKind() != TypeKind.VOID) {
-                    msg.printMessage(Diagnostic.Kind.ERROR, "method must return void", method);
+            }
+
+            for (CompiledListenersWriter writer : compiled.values()) {
+                // Only classes whose listeners can all be invoked without reflection are indexed
+                if (incomplete.contains(writer.getListenerClass()) || !addInheritedListeners(writer)) {
+                    continue;
                 }
-                List<? extends VariableElement> parameters = method.getParameters();
-                if (parameters.isEmpty() || !isTypeSubclass(parameters.get(0), EVENT_CLASS)) {
-                    msg.printMessage(Diagnostic.Kind.ERROR, "method must have an Event as its first parameter", method);
+                try {
+                    writer.write();
+                } catch (IOException e) {
+                    throw new PluginProcessException("Failed to write compiled listeners of " + writer.getListenerClass(), e);
                 }
+                this.index.put(this.processingEnv.getElementUtils().getBinaryName(writer.getListenerClass()).toString(), writer.getBinaryName());
             }
         }
 
         return false;
     }
 
+    /**
+     * Adds the listener methods the listener class of the writer inherits
+     * from its superclasses, which are registered for its instances as well.
+     *
+     * @return Whether all inherited listener methods could be compiled
+     */
+    private boolean addInheritedListeners(CompiledListenersWriter writer) {
+        final TypeElement listenerClass = writer.getListenerClass();
+        // Overridden methods are not members, their listeners are replaced by the overriding method
+        for (ExecutableElement method : ElementFilter.methodsIn(this.processingEnv.getElementUtils().getAllMembers(listenerClass))) {
+            if (method.getEnclosingElement().equals(listenerClass) || method.getAnnotation(Listener.class) == null) {
+                continue;
+            }
+            if (!isValid(method, null) || !writer.add(method)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the given method is a valid listener method.
+     *
+     * @param method The listener method
+     * @param msg The messager to report the problems to, or null to only check
+     * @return Whether the method is valid
+     */
+    private boolean isValid(ExecutableElement method, @Nullable Messager msg) {
+        boolean valid = true;
+        if (method.getModifiers().contains(Modifier.STATIC)) {
+            valid = error(msg, "method must not be static", method);
+        }
+        if (!method.getModifiers().contains(Modifier.PUBLIC)) {
+            valid = error(msg, "method must be public", method);
+        }
+        if (method.getModifiers().contains(Modifier.ABSTRACT)) {
+            valid = error(msg, "method must not be abstract", method);
+        }
+        if (method.getEnclosingElement().getKind().isInterface()) {
+            valid = error(msg, "interfaces cannot declare listeners", method);
+        }
+        if (method.getReturnType().getKind() != TypeKind.VOID) {
+            valid = error(msg, "method must return void", method);
+        }
+        List<? extends VariableElement> parameters = method.getParameters();
+        if (parameters.isEmpty() || !isTypeSubclass(parameters.get(0), EVENT_CLASS)) {
+            valid = error(msg, "method must have an Event as its first parameter", method);
+        } else if (method.getAnnotation(CoalesceMovement.class) != null
+                && !isTypeSubclass(parameters.get(0), MOVE_ENTITY_EVENT_CLASS)) {
+            valid = error(msg, "@CoalesceMovement method must have a MoveEntityEvent as its first parameter", method);
+        }
+        return valid;
+    }
+
+    private static boolean error(@Nullable Messager msg, String message, Element element) {
+        if (msg != null) {
+            msg.printMessage(Diagnostic.Kind.ERROR, message, element);
+        }
+        return false;
+    }
+
+    private void writeIndex() {
+        try (PrintWriter writer = new PrintWriter(this.processingEnv.getFiler()
+                .createResource(CLASS_OUTPUT, "", CompiledListeners.INDEX_RESOURCE).openWriter())) {
+            for (Map.Entry<String, String> entry : this.index.entrySet()) {
+                writer.println(entry.getKey() + ' ' + entry.getValue());
+            }
+        } catch (IOException e) {
+            throw new PluginProcessException("Failed to write the compiled listener index", e);
+        }
+    }
+
     private boolean isTypeSubclass(Element typedElement, String subclass) {
         Elements elements = this.processingEnv.getElementUtils();
         Types types = this.processingEnv.getTypeUtils();
@@ -24,6 +24,9 @@
  */
 package org.spongepowered.api.data;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.data.key.Key;
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.DataManipulatorBuilder;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
@@ -31,9 +34,13 @@
 import org.spongepowered.api.data.persistence.DataBuilder;
 import org.spongepowered.api.data.persistence.DataContentUpdater;
 import org.spongepowered.api.data.persistence.DataTranslator;
+import org.spongepowered.api.data.value.BaseValue;
+import org.spongepowered.api.data.value.ValueContainer;
 import org.spongepowered.api.plugin.PluginContainer;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -81,6 +88,10 @@ public interface DataManager {
      * great or a {@link DataContentUpdater} has not been registered to cover
      * the complete jump, {@link Optional#empty()} may be returned.
      *
+     * <p>The shortest chain of updaters is used, and resolved chains are
+     * cached per version pair, see
+     * {@link org.spongepowered.api.data.persistence.DataContentUpdaterGraph}.</p>
+     *
      * @param clazz The data serializable class
      * @param fromVersion The version converting from
      * @param toVersion The version converting to
@@ -229,4 +240,69 @@ public interface DataManager {
      */
     DataContainer createContainer(DataView.SafetyMode safety);
 
+    /**
+     * Offers the given {@code value} to all of the provided
+     * {@link DataHolder}s in a single batch, as if
+     * {@link DataHolder#offer(Key, Object)} was called on each of them.
+     *
+     * <p>Implementations resolve the processors for the key once per type of
+     * holder, instead of once per offer. The returned result has the most
+     * severe {@link DataTransactionResult.Type} of all offers, and contains
+     * the successful, replaced and rejected values of every holder, as they
+     * belong to different holders these are not merged by key. Use
+     * {@link DataHolder#offer(Key, Object)} if the result of each holder is
+     * required.</p>
+     *
+     * @param holders The data holders to offer the value to
+     * @param key The key of the value
+     * @param value The value to offer
+     * @param <E> The type of value
+     * @return The aggregated transaction result
+     */
+    default <E> DataTransactionResult offerAll(Collection<? extends DataHolder> holders, Key<? extends BaseValue<E>> key, E value) {
+        checkNotNull(key, "key");
+        checkNotNull(value, "value");
+        if (checkNotNull(holders, "holders").isEmpty()) {
+            return DataTransactionResult.successNoData();
+        }
+        final DataTransactionResult.Builder builder = DataTransactionResult.builder();
+        DataTransactionResult.Type type = null;
+        for (DataHolder holder : holders) {
+            final DataTransactionResult result = checkNotNull(holder, "holder").offer(key, value);
+            if (type == null || type.compareTo(result.getType()) < 0) {
+                type = result.getType();
+            }
+            builder.success(result.getSuccessfulData())
+                    .replace(result.getReplacedData())
+                    .reject(result.getRejectedData());
+        }
+        return builder.result(type).build();
+    }
+
+    /**
+     * Gets the values for the given {@link Key} of all of the provided
+     * {@link ValueContainer}s in a single batch, as if
+     * {@link ValueContainer#get(Key)} was called on each of them.
+     * Implementations resolve the processors for the key once per type of
+     * container, instead of once per container.
+     *
+     * <p>Only the containers with a value for the key are contained in the
+     * returned map, in the iteration order of the provided collection.</p>
+     *
+     * @param containers The value containers to get the values from
+     * @param key The key of the value
+     * @param <C> The type of value container
+     * @param <E> The type of value
+     * @return The values by value container
+     */
+    default <C extends ValueContainer<?>, E> Map<C, E> getAll(Collection<? extends C> containers, Key<? extends BaseValue<E>> key) {
+        checkNotNull(containers, "containers");
+        checkNotNull(key, "key");
+        final Map<C, E> values = new LinkedHashMap<>();
+        for (C container : containers) {
+            checkNotNull(container, "container").get(key).ifPresent(value -> values.put(container, value));
+        }
+        return values;
+    }
+
 }
@@ -25,57 +25,72 @@
 package org.spongepowered.api.data;
 
 import com.google.common.base.Joiner;
-import com.google.common.base.Objects;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 
 import java.util.List;
-import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
 
 /**
  * Represents a query that can be done on views. Queries do not depend on
  * their separator, it is just a way to construct them.
+ *
+ * <p>A query is stored as a pointer to its parent query and the name of its
+ * last part, so {@link #then(String)} and {@link #pop()} never copy the
+ * query they are called on. Queries that are used often, such as the ones
+ * from {@link Queries} or {@link org.spongepowered.api.data.key.Key#getQuery()},
+ * can be {@link #intern() interned} to make equality checks against them an
+ * identity comparison.</p>
  */
 public final class DataQuery {
 
-    private static final DataQuery EMPTY = new DataQuery();
+    private static final DataQuery EMPTY = new DataQuery(null, "");
+    private static final Interner<DataQuery> INTERNER = Interners.newWeakInterner();
 
     /**
-     * The parts that make up this query.
+     * The query without the last part, or {@code null} for the empty query.
      */
-    private final ImmutableList<String> parts;
+    @Nullable private final DataQuery parent;
 
-    private ImmutableList<DataQuery> queryParts; //lazy loaded
+    /**
+     * The last part of this query.
+     */
+    private final String name;
 
     /**
-     * Constructs a query using the given separator character and path.
-     *
-     * <p>As an example, {@code new DataQuery('/', "a/b/c")} and
-     * {@code new DataQuery('.', "a.b.c")} represent the same path but are
-     * constructed using different separators.</p>
-     *
-     * @param separator The separator
-     * @param path The path
+     * The number of parts of this query.
      */
-    private DataQuery(char separator, String path) {
-        this(path.split(Pattern.quote(String.valueOf(separator))));
-    }
+    private final int size;
 
     /**
-     * Constructs a query using the given parts.
-     *
-     * @param parts The parts
+     * Equal to {@link List#hashCode()} of the parts, computed from the hash
+     * of the parent.
      */
-    private DataQuery(String... parts) {
-        this.parts = ImmutableList.copyOf(parts);
-    }
+    private final int hash;
+
+    private boolean interned;
+
+    private ImmutableList<String> parts; //lazy loaded
+    private ImmutableList<DataQuery> queryParts; //lazy loaded
 
     /**
-     * Constructs a query using the given parts.
+     * Constructs a query from its parent and its last part.
      *
-     * @param parts The parts
+     * @param parent The parent query, or {@code null} for the empty query
+     * @param name The last part
      */
-    private DataQuery(List<String> parts) {
-        this.parts = ImmutableList.copyOf(parts);
+    private DataQuery(@Nullable DataQuery parent, String name) {
+        this.parent = parent;
+        this.name = name;
+        if (parent == null) {
+            this.size = 0;
+            this.hash = 1;
+        } else {
+            this.size = parent.size + 1;
+            this.hash = 31 * parent.hash + name.hashCode();
+        }
     }
 
     /**
@@ -96,12 +111,34 @@ public static DataQuery of() {
      * {@code new DataQuery('.', "a.b.c")} represent the same path but are
      * constructed using different separators.</p>
      *
+     * <p>The path is split like {@link String#split(String)} would with a
+     * literal separator, so trailing empty parts are dropped.</p>
+     *
      * @param separator The separator
      * @param path The path
      * @return The newly constructed {@link DataQuery}
      */
     public static DataQuery of(char separator, String path) {
-        return new DataQuery(separator, path);
+        int end = path.indexOf(separator);
+        if (end < 0) {
+            return new DataQuery(EMPTY, path);
+        }
+        // Trailing empty parts are dropped, like String#split does
+        int length = path.length();
+        while (length > 0 && path.charAt(length - 1) == separator) {
+            length--;
+        }
+        DataQuery query = EMPTY;
+        int start = 0;
+        while (start < length) {
+            end = path.indexOf(separator, start);
+            if (end < 0 || end > length) {
+                end = length;
+            }
+            query = new DataQuery(query, path.substring(start, end));
+            start = end + 1;
+        }
+        return query;
     }
 
     /**
@@ -111,10 +148,11 @@ public static DataQuery of(char separator, String path) {
      * @return The newly constructed {@link DataQuery}
      */
     public static DataQuery of(String... parts) {
-        if (parts.length == 0) {
-            return DataQuery.EMPTY;
+        DataQuery query = EMPTY;
+        for (String part : parts) {
+            query = new DataQuery(query, part);
         }
-        return new DataQuery(parts);
+        return query;
     }
 
     /**
@@ -124,10 +162,32 @@ public static DataQuery of(String... parts) {
      * @return The newly constructed {@link DataQuery}
      */
     public static DataQuery of(List<String> parts) {
-        if (parts.isEmpty()) {
-            return DataQuery.EMPTY;
+        DataQuery query = EMPTY;
+        for (String part : parts) {
+            query = new DataQuery(query, part);
         }
-        return new DataQuery(parts);
+        return query;
+    }
+
+    /**
+     * Gets the canonical instance of this query. Interned queries that are
+     * equal are the same instance, and share their parent queries with
+     * each other.
+     *
+     * @return The canonical instance of this query
+     */
+    public DataQuery intern() {
+        if (this.interned) {
+            return this;
+        }
+        if (this.parent == null) {
+            return EMPTY;
+        }
+        final DataQuery parent = this.parent.intern();
+        final DataQuery query = parent == this.parent ? this : new DataQuery(parent, this.name);
+        final DataQuery canonical = INTERNER.intern(query);
+        canonical.interned = true;
+        return canonical;
     }
 
     /**
@@ -136,9 +196,28 @@ public static DataQuery of(List<String> parts) {
      * @return The parts of this query
      */
     public List<String> getParts() {
+        if (this.parts == null) {
+            final String[] parts = new String[this.size];
+            DataQuery query = this;
+            for (int i = this.size - 1; i >= 0; i--) {
+                parts[i] = query.name;
+                query = query.parent;
+            }
+            this.parts = ImmutableList.copyOf(parts);
+        }
         return this.parts;
     }
 
+    /**
+     * Gets the last part of this query, or an empty string for the empty
+     * query, without building the list of parts.
+     *
+     * @return The last part
+     */
+    String getLastPart() {
+        return this.name;
+    }
+
     /**
      * Returns a new query that is made up of this query's parts followed by the
      * given query's parts.
@@ -147,13 +226,17 @@ public List<String> getParts() {
      * @return The constructed query
      */
     public DataQuery then(DataQuery that) {
-        ImmutableList.Builder<String> builder =
-            new ImmutableList.Builder<>();
-
-        builder.addAll(this.parts);
-        builder.addAll(that.parts);
-
-        return new DataQuery(builder.build());
+        if (that.size == 0) {
+            return this;
+        }
+        if (this.size == 0) {
+            return that;
+        }
+        DataQuery query = this;
+        for (String part : that.getParts()) {
+            query = new DataQuery(query, part);
+        }
+        return query;
     }
 
     /**
@@ -164,13 +247,7 @@ public DataQuery then(DataQuery that) {
      * @return The constructed query
      */
     public DataQuery then(String that) {
-        ImmutableList.Builder<String> builder =
-            new ImmutableList.Builder<>();
-
-        builder.addAll(this.parts);
-        builder.add(that);
-
-        return new DataQuery(builder.build());
+        return new DataQuery(this, that);
     }
 
     /**
@@ -183,7 +260,7 @@ public List<DataQuery> getQueryParts() {
         if (this.queryParts == null) {
             ImmutableList.Builder<DataQuery> builder = ImmutableList.builder();
             for (String part : getParts()) {
-                builder.add(new DataQuery(part));
+                builder.add(new DataQuery(EMPTY, part));
             }
             this.queryParts = builder.build();
         }
@@ -198,14 +275,7 @@ public List<DataQuery> getQueryParts() {
      * @return The next level query
      */
     public DataQuery pop() {
-        if (this.parts.size() <= 1) {
-            return of();
-        }
-        ImmutableList.Builder<String> builder = ImmutableList.builder();
-        for (int i = 0; i < this.parts.size() - 1; i++) {
-            builder.add(this.parts.get(i));
-        }
-        return new DataQuery(builder.build());
+        return this.parent == null ? this : this.parent;
     }
 
     /**
@@ -216,14 +286,15 @@ public DataQuery pop() {
      * @return The next level query
      */
     public DataQuery popFirst() {
-        if (this.parts.size() <= 1) {
+        if (this.size <= 1) {
             return of();
         }
-        ImmutableList.Builder<String> builder = ImmutableList.builder();
-        for (int i = 1; i < this.parts.size(); i++) {
-            builder.add(this.parts.get(i));
+        final List<String> parts = getParts();
+        DataQuery query = EMPTY;
+        for (int i = 1; i < parts.size(); i++) {
+            query = new DataQuery(query, parts.get(i));
         }
-        return new DataQuery(builder.build());
+        return query;
     }
 
     /**
@@ -233,10 +304,10 @@ public DataQuery popFirst() {
      * @return The last entry as a data query, if not already last
      */
     public DataQuery last() {
-        if (this.parts.size() <= 1) {
+        if (this.size <= 1) {
             return this;
         }
-        return new DataQuery(this.parts.get(this.parts.size() - 1));
+        return new DataQuery(EMPTY, this.name);
     }
 
     /**
@@ -246,7 +317,7 @@ public DataQuery last() {
      * @return This query as a string
      */
     public String asString(String separator) {
-        return Joiner.on(separator).join(this.parts);
+        return Joiner.on(separator).join(getParts());
     }
 
     /**
@@ -266,7 +337,7 @@ public String toString() {
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(this.parts);
+        return this.hash;
     }
 
     @Override
@@ -277,7 +348,19 @@ public boolean equals(Object obj) {
         if (obj == null || getClass() != obj.getClass()) {
             return false;
         }
-        final DataQuery other = (DataQuery) obj;
-        return Objects.equal(this.parts, other.parts);
+        DataQuery query = this;
+        DataQuery other = (DataQuery) obj;
+        if (query.size != other.size || query.hash != other.hash || (query.interned && other.interned)) {
+            return false;
+        }
+        // Walk up both chains until they share a parent
+        while (query != other) {
+            if (!query.name.equals(other.name)) {
+                return false;
+            }
+            query = query.parent;
+            other = other.parent;
+        }
+        return true;
     }
 }
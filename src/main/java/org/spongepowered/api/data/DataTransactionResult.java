@@ -30,7 +30,6 @@
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Objects;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Lists;
 import org.spongepowered.api.data.key.Key;
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.value.BaseValue;
@@ -41,19 +40,34 @@
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import javax.annotation.Nullable;
+
 /**
  * Represents a transaction taking place where a {@link DataHolder} is
  * accepting {@link DataManipulator}s.
  */
 public final class DataTransactionResult {
 
-    private static final DataTransactionResult SUCCESS_NODATA = builder().result(Type.SUCCESS).build();
-    private static final DataTransactionResult FAIL_NODATA = builder().result(Type.FAILURE).build();
+    // Shared results without any data, indexed by type ordinal
+    private static final DataTransactionResult[] NO_DATA = new DataTransactionResult[Type.values().length];
+
+    static {
+        for (Type type : Type.values()) {
+            NO_DATA[type.ordinal()] = new DataTransactionResult(type, ImmutableList.of(), ImmutableList.of(), ImmutableList.of());
+        }
+    }
 
+    private static final DataTransactionResult SUCCESS_NODATA = NO_DATA[Type.SUCCESS.ordinal()];
+    private static final DataTransactionResult FAIL_NODATA = NO_DATA[Type.FAILURE.ordinal()];
 
     /**
      * Gets a new {@link Builder} to build a new
@@ -91,7 +105,7 @@ public static DataTransactionResult successNoData() {
      * @return The new data transaction result
      */
     public static DataTransactionResult successResult(final ImmutableValue<?> value) {
-        return builder().success(value).result(Type.SUCCESS).build();
+        return new DataTransactionResult(Type.SUCCESS, ImmutableList.of(checkNotNull(value)), ImmutableList.of(), ImmutableList.of());
     }
 
     /**
@@ -108,7 +122,8 @@ public static DataTransactionResult successResult(final ImmutableValue<?> value)
      * @return The new data transaction result
      */
     public static DataTransactionResult successReplaceResult(final ImmutableValue<?> successful, final ImmutableValue<?> replaced) {
-        return builder().result(Type.SUCCESS).success(successful).replace(replaced).build();
+        return new DataTransactionResult(Type.SUCCESS, ImmutableList.of(checkNotNull(successful)),
+                ImmutableList.of(checkNotNull(replaced)), ImmutableList.of());
     }
 
     /**
@@ -157,7 +172,7 @@ public static DataTransactionResult successRemove(Collection<ImmutableValue<?>>
      * @return The new data transaction result
      */
     public static DataTransactionResult successRemove(ImmutableValue<?> removed) {
-        return builder().replace(removed).result(Type.SUCCESS).build();
+        return new DataTransactionResult(Type.SUCCESS, ImmutableList.of(), ImmutableList.of(checkNotNull(removed)), ImmutableList.of());
     }
 
     /**
@@ -169,7 +184,7 @@ public static DataTransactionResult successRemove(ImmutableValue<?> removed) {
      * @return The new data transaction result
      */
     public static DataTransactionResult failResult(final ImmutableValue<?> value) {
-        return builder().reject(value).result(Type.FAILURE).build();
+        return new DataTransactionResult(Type.FAILURE, ImmutableList.of(), ImmutableList.of(), ImmutableList.of(checkNotNull(value)));
     }
 
     /**
@@ -203,7 +218,7 @@ public static DataTransactionResult failNoData() {
      * @return The new data transaction result
      */
     public static DataTransactionResult errorResult(final ImmutableValue<?> value) {
-        return builder().result(Type.ERROR).reject(value).build();
+        return new DataTransactionResult(Type.ERROR, ImmutableList.of(), ImmutableList.of(), ImmutableList.of(checkNotNull(value)));
     }
 
     /**
@@ -254,22 +269,24 @@ public enum Type {
     private final ImmutableList<ImmutableValue<?>> success;
 
     DataTransactionResult(final Builder builder) {
-        this.type = builder.resultType;
-        if (builder.rejected != null) {
-            this.rejected = ImmutableList.copyOf(builder.rejected);
-        } else {
-            this.rejected = ImmutableList.of();
-        }
-        if (builder.replaced != null) {
-            this.replaced = ImmutableList.copyOf(builder.replaced);
-        } else {
-            this.replaced = ImmutableList.of();
-        }
-        if (builder.successful != null) {
-            this.success = ImmutableList.copyOf(builder.successful);
-        } else {
-            this.success = ImmutableList.of();
-        }
+        this(builder.resultType, immutable(builder.successful), immutable(builder.replaced), immutable(builder.rejected));
+    }
+
+    private DataTransactionResult(Type type, ImmutableList<ImmutableValue<?>> success, ImmutableList<ImmutableValue<?>> replaced,
+            ImmutableList<ImmutableValue<?>> rejected) {
+        this.type = type;
+        this.success = success;
+        this.replaced = replaced;
+        this.rejected = rejected;
+    }
+
+    private static ImmutableList<ImmutableValue<?>> immutable(@Nullable List<ImmutableValue<?>> list) {
+        // Lists shared from other results are already immutable, so they aren't copied again
+        return list == null ? ImmutableList.of() : ImmutableList.copyOf(list);
+    }
+
+    private boolean hasData() {
+        return !this.success.isEmpty() || !this.replaced.isEmpty() || !this.rejected.isEmpty();
     }
 
 
@@ -387,14 +404,53 @@ public int hashCode() {
      */
     public static final class Builder implements ResettableBuilder<DataTransactionResult, Builder> {
 
-        List<ImmutableValue<?>> rejected;
-        List<ImmutableValue<?>> replaced;
-        List<ImmutableValue<?>> successful;
-        Type resultType;
+        // These may be immutable lists shared with an absorbed result until
+        // they are modified, see mutable(List)
+        @Nullable List<ImmutableValue<?>> rejected;
+        @Nullable List<ImmutableValue<?>> replaced;
+        @Nullable List<ImmutableValue<?>> successful;
+        @Nullable Type resultType;
 
         Builder() {
         }
 
+        private static List<ImmutableValue<?>> mutable(@Nullable List<ImmutableValue<?>> list) {
+            if (list == null) {
+                return new ArrayList<>(2);
+            }
+            return list instanceof ImmutableList ? new ArrayList<>(list) : list;
+        }
+
+        private boolean hasData() {
+            return this.successful != null && !this.successful.isEmpty()
+                    || this.replaced != null && !this.replaced.isEmpty()
+                    || this.rejected != null && !this.rejected.isEmpty();
+        }
+
+        /**
+         * Gets whether the values of the result all have distinct keys, in
+         * which case absorbing it into an empty builder doesn't change it.
+         */
+        private static boolean hasDistinctKeys(DataTransactionResult result) {
+            final List<List<ImmutableValue<?>>> lists = ImmutableList.of(result.success, result.rejected, result.replaced);
+            for (int i = 0; i < lists.size(); i++) {
+                final List<ImmutableValue<?>> list = lists.get(i);
+                for (int j = 0; j < list.size(); j++) {
+                    final Key<?> key = list.get(j).getKey();
+                    for (int k = 0; k <= i; k++) {
+                        final List<ImmutableValue<?>> other = lists.get(k);
+                        final int end = k == i ? j : other.size();
+                        for (int l = 0; l < end; l++) {
+                            if (key.equals(other.get(l).getKey())) {
+                                return false;
+                            }
+                        }
+                    }
+                }
+            }
+            return true;
+        }
+
         /**
          * Sets the expectant {@link Type} to the provided
          * type. A {@link DataTransactionResult} must always have a type to mark
@@ -420,9 +476,7 @@ public Builder result(final Type type) {
          * @return This builder, for chaining
          */
         public Builder replace(final ImmutableValue<?> value) {
-            if (this.replaced == null) {
-                this.replaced = Lists.newArrayList();
-            }
+            this.replaced = mutable(this.replaced);
             this.replaced.add(checkNotNull(value));
             return this;
         }
@@ -457,9 +511,7 @@ public Builder replace(final Iterable<ImmutableValue<?>> values) {
          * @return This builder, for chaining
          */
         public Builder reject(final ImmutableValue<?> value) {
-            if (this.rejected == null) {
-                this.rejected = Lists.newArrayList();
-            }
+            this.rejected = mutable(this.rejected);
             this.rejected.add(checkNotNull(value));
             return this;
         }
@@ -494,9 +546,7 @@ public Builder reject(final Iterable<ImmutableValue<?>> values) {
          * @return This builder, for chaining
          */
         public Builder success(final ImmutableValue<?> value) {
-            if (this.successful == null) {
-                this.successful = Lists.newArrayList();
-            }
+            this.successful = mutable(this.successful);
             this.successful.add(checkNotNull(value));
             return this;
         }
@@ -539,142 +589,30 @@ public Builder absorbResult(final DataTransactionResult result) {
                     this.resultType = result.getType();
                 }
             }
-            final List<ImmutableValue<?>> newSuccessful = Lists.newArrayList();
-            final List<ImmutableValue<?>> newReplaced = Lists.newArrayList();
-            final List<ImmutableValue<?>> newRejected = Lists.newArrayList();
-            // Now let's handle the successful data
-            if (this.successful != null) {
-                dance:
-                for (final ImmutableValue<?> value : this.successful) {
-                    for (final ImmutableValue<?> rejected : result.getRejectedData()) {
-                        if (value.getKey().equals(rejected.getKey())) {
-                            newRejected.add(rejected);
-                            continue dance;
-                        }
-                    }
-                    for (final ImmutableValue<?> replaced : result.getReplacedData()) {
-                        if (value.getKey().equals(replaced.getKey())) {
-                            newReplaced.add(value);
-                            continue dance;
-                        }
-                    }
-                    for (final ImmutableValue<?> successful : result.getSuccessfulData()) {
-                        if (value.getKey().equals(successful.getKey())) {
-                            newSuccessful.add(successful);
-                            continue dance;
-                        }
-                    }
-                    newSuccessful.add(value);
-                }
-            }
-            if (this.replaced != null) {
-                dance:
-                for (final ImmutableValue<?> value : this.replaced) {
-                    for (final ImmutableValue<?> rejected : result.getRejectedData()) {
-                        if (value.getKey().equals(rejected.getKey())) {
-                            newRejected.add(rejected);
-                            continue dance;
-                        }
-                    }
-                    for (final ImmutableValue<?> replaced : result.getReplacedData()) {
-                        if (value.getKey().equals(replaced.getKey())) {
-                            newReplaced.add(value);
-                            continue dance;
-                        }
-                    }
-                    for (final ImmutableValue<?> successful : result.getSuccessfulData()) {
-                        if (value.getKey().equals(successful.getKey())) {
-                            newSuccessful.add(successful);
-                            continue dance;
-                        }
-                    }
-                    newReplaced.add(value);
-                }
-            }
-            if (this.rejected != null) {
-                dance:
-                for (final ImmutableValue<?> value : this.rejected) {
-                    for (final ImmutableValue<?> rejected : result.getRejectedData()) {
-                        if (value.getKey().equals(rejected.getKey())) {
-                            newRejected.add(rejected);
-                            continue dance;
-                        }
-                    }
-                    for (final ImmutableValue<?> replaced : result.getReplacedData()) {
-                        if (value.getKey().equals(replaced.getKey())) {
-                            newReplaced.add(value);
-                            continue dance;
-                        }
-                    }
-                    for (final ImmutableValue<?> successful : result.getSuccessfulData()) {
-                        if (value.getKey().equals(successful.getKey())) {
-                            newSuccessful.add(successful);
-                            continue dance;
-                        }
-                    }
-                    newRejected.add(value);
-                }
-            }
-            dance:
-            for (final ImmutableValue<?> value : result.getSuccessfulData()) {
-                for (final ImmutableValue<?> rejected : newRejected) {
-                    if (value.getKey().equals(rejected.getKey())) {
-                        continue dance;
-                    }
-                }
-                for (final ImmutableValue<?> replaced : newReplaced) {
-                    if (value.getKey().equals(replaced.getKey())) {
-                        continue dance;
-                    }
-                }
-                for (final ImmutableValue<?> successful : newSuccessful) {
-                    if (value.getKey().equals(successful.getKey())) {
-                        continue dance;
-                    }
-                }
-                newSuccessful.add(value);
+            // Nested transactions are commonly absorbed into empty builders or
+            // absorb results without data, neither requires merging the lists
+            if (!result.hasData()) {
+                return this;
             }
-            dance:
-            for (final ImmutableValue<?> value : result.getRejectedData()) {
-                for (final ImmutableValue<?> rejected : newRejected) {
-                    if (value.getKey().equals(rejected.getKey())) {
-                        continue dance;
-                    }
-                }
-                for (final ImmutableValue<?> replaced : newReplaced) {
-                    if (value.getKey().equals(replaced.getKey())) {
-                        continue dance;
-                    }
-                }
-                for (final ImmutableValue<?> successful : newSuccessful) {
-                    if (value.getKey().equals(successful.getKey())) {
-                        continue dance;
-                    }
-                }
-                newRejected.add(value);
-            }
-            dance:
-            for (final ImmutableValue<?> value : result.getReplacedData()) {
-                for (final ImmutableValue<?> rejected : newRejected) {
-                    if (value.getKey().equals(rejected.getKey())) {
-                        continue dance;
-                    }
-                }
-                for (final ImmutableValue<?> replaced : newReplaced) {
-                    if (value.getKey().equals(replaced.getKey())) {
-                        continue dance;
-                    }
-                }
-                for (final ImmutableValue<?> successful : newSuccessful) {
-                    if (value.getKey().equals(successful.getKey())) {
-                        continue dance;
-                    }
-                }
-                newReplaced.add(value);
+            if (!hasData() && hasDistinctKeys(result)) {
+                this.successful = result.success;
+                this.replaced = result.replaced;
+                this.rejected = result.rejected;
+                return this;
             }
-            this.replaced = newReplaced;
-            this.rejected = newRejected;
-            this.successful = newSuccessful;
+            // Values of this builder are replaced by the values of the result
+            // with the same key, then the remaining values of the result are
+            // added unless their key is already present
+            final Merge merge = new Merge(result);
+            merge.mergeExisting(this.successful, merge.successful);
+            merge.mergeExisting(this.replaced, merge.replaced);
+            merge.mergeExisting(this.rejected, merge.rejected);
+            merge.mergeResult(result.success, merge.successful);
+            merge.mergeResult(result.rejected, merge.rejected);
+            merge.mergeResult(result.replaced, merge.replaced);
+            this.replaced = merge.replaced;
+            this.rejected = merge.rejected;
+            this.successful = merge.successful;
             return this;
         }
 
@@ -688,15 +626,18 @@ public Builder absorbResult(final DataTransactionResult result) {
          */
         public DataTransactionResult build() {
             checkState(this.resultType != null);
+            if (!hasData()) {
+                return NO_DATA[this.resultType.ordinal()];
+            }
             return new DataTransactionResult(this);
         }
 
         @Override
         public Builder from(DataTransactionResult value) {
             this.resultType = value.type;
-            this.rejected = new ArrayList<>(value.getRejectedData());
-            this.replaced = new ArrayList<>(value.getReplacedData());
-            this.successful = new ArrayList<>(value.getSuccessfulData());
+            this.rejected = value.rejected;
+            this.replaced = value.replaced;
+            this.successful = value.success;
             return this;
         }
 
@@ -710,4 +651,73 @@ public Builder reset() {
         }
 
     }
+
+    /**
+     * The state of merging the values of a {@link DataTransactionResult}
+     * into those of a {@link Builder}, see
+     * {@link Builder#absorbResult(DataTransactionResult)}. Values are matched
+     * through their keys by hash lookups, rather than by scanning the other
+     * lists for every value.
+     */
+    private static final class Merge {
+
+        final List<ImmutableValue<?>> successful = new ArrayList<>();
+        final List<ImmutableValue<?>> replaced = new ArrayList<>();
+        final List<ImmutableValue<?>> rejected = new ArrayList<>();
+        // The first value for each key of the absorbed result
+        private final Map<Key<?>, ImmutableValue<?>> resultSuccessful;
+        private final Map<Key<?>, ImmutableValue<?>> resultReplaced;
+        private final Map<Key<?>, ImmutableValue<?>> resultRejected;
+        // The keys of all merged values
+        private final Set<Key<?>> keys = new HashSet<>();
+
+        Merge(DataTransactionResult result) {
+            this.resultSuccessful = firstByKey(result.success);
+            this.resultReplaced = firstByKey(result.replaced);
+            this.resultRejected = firstByKey(result.rejected);
+        }
+
+        private static Map<Key<?>, ImmutableValue<?>> firstByKey(List<ImmutableValue<?>> values) {
+            if (values.isEmpty()) {
+                return Collections.emptyMap();
+            }
+            final Map<Key<?>, ImmutableValue<?>> map = new HashMap<>();
+            for (ImmutableValue<?> value : values) {
+                map.putIfAbsent(value.getKey(), value);
+            }
+            return map;
+        }
+
+        void mergeExisting(@Nullable List<ImmutableValue<?>> values, List<ImmutableValue<?>> target) {
+            if (values == null) {
+                return;
+            }
+            for (ImmutableValue<?> value : values) {
+                final Key<?> key = value.getKey();
+                final ImmutableValue<?> rejected = this.resultRejected.get(key);
+                if (rejected != null) {
+                    this.rejected.add(rejected);
+                } else if (this.resultReplaced.containsKey(key)) {
+                    this.replaced.add(value);
+                } else {
+                    final ImmutableValue<?> successful = this.resultSuccessful.get(key);
+                    if (successful != null) {
+                        this.successful.add(successful);
+                    } else {
+                        target.add(value);
+                    }
+                }
+                this.keys.add(key);
+            }
+        }
+
+        void mergeResult(List<ImmutableValue<?>> values, List<ImmutableValue<?>> target) {
+            for (ImmutableValue<?> value : values) {
+                if (this.keys.add(value.getKey())) {
+                    target.add(value);
+                }
+            }
+        }
+
+    }
 }
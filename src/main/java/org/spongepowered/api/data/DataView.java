@@ -37,6 +37,8 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Represents an object of data represented by a map.
@@ -120,6 +122,26 @@ public interface DataView {
      */
     Map<DataQuery, Object> getValues(boolean deep);
 
+    /**
+     * Gets a lazy {@link Stream} of all keys and their values for this
+     * {@link DataView}, with the same entries as {@link #getValues(boolean)}
+     * but without copying the contents of the view.
+     *
+     * <p>Entries are walked depth first, such that the entry of a child
+     * {@link DataView} is directly followed by its own entries if deep is
+     * set to true. Only the keys of a single view are retrieved at a time,
+     * so short-circuiting operations like {@link Stream#anyMatch} stop
+     * walking early. A parallel stream is split at the top level keys.</p>
+     *
+     * <p>The view should not be modified while the stream is used.</p>
+     *
+     * @param deep Whether or not to walk the children of child views
+     * @return A stream of the keys and values of this view
+     */
+    default Stream<Map.Entry<DataQuery, Object>> walk(boolean deep) {
+        return StreamSupport.stream(() -> new DataViewSpliterator(this, deep), DataViewSpliterator.CHARACTERISTICS, false);
+    }
+
     /**
      * Returns whether this {@link DataView} contains the given path.
      *
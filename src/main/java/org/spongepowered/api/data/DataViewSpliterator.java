@@ -0,0 +1,142 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} walking the entries of a {@link DataView} depth
+ * first, see {@link DataView#walk(boolean)}. Only the keys of a single level
+ * are retrieved at a time, and splitting happens at the top level keys.
+ */
+final class DataViewSpliterator implements Spliterator<Map.Entry<DataQuery, Object>> {
+
+    // Not sized, keys without a value are skipped
+    static final int CHARACTERISTICS = ORDERED | DISTINCT | NONNULL;
+
+    private final DataView view;
+    private final List<DataQuery> keys;
+    private final boolean deep;
+    private int index;
+    private final int end;
+    // The child views currently being walked, only used when deep
+    private final Deque<Level> levels = new ArrayDeque<>();
+
+    DataViewSpliterator(DataView view, boolean deep) {
+        this.view = view;
+        this.keys = new ArrayList<>(view.getKeys(false));
+        this.deep = deep;
+        this.end = this.keys.size();
+    }
+
+    private DataViewSpliterator(DataView view, List<DataQuery> keys, boolean deep, int index, int end) {
+        this.view = view;
+        this.keys = keys;
+        this.deep = deep;
+        this.index = index;
+        this.end = end;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Map.Entry<DataQuery, Object>> action) {
+        while (!this.levels.isEmpty()) {
+            final Level level = this.levels.peek();
+            if (!level.keys.hasNext()) {
+                this.levels.pop();
+                continue;
+            }
+            final DataQuery key = level.keys.next();
+            final Object value = level.view.get(key).orElse(null);
+            if (value != null) {
+                accept(level.path.then(key), value, action);
+                return true;
+            }
+        }
+        while (this.index < this.end) {
+            final DataQuery key = this.keys.get(this.index++);
+            final Object value = this.view.get(key).orElse(null);
+            if (value != null) {
+                accept(key, value, action);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void accept(DataQuery path, Object value, Consumer<? super Map.Entry<DataQuery, Object>> action) {
+        if (this.deep && value instanceof DataView) {
+            final DataView child = (DataView) value;
+            this.levels.push(new Level(child, path, child.getKeys(false).iterator()));
+        }
+        action.accept(new AbstractMap.SimpleImmutableEntry<>(path, value));
+    }
+
+    @Override
+    public Spliterator<Map.Entry<DataQuery, Object>> trySplit() {
+        final int remaining = this.end - this.index;
+        // Only the top level keys are split, a child view that is being
+        // walked has to be finished before the remaining keys
+        if (remaining < 2 || !this.levels.isEmpty()) {
+            return null;
+        }
+        final int mid = this.index + remaining / 2;
+        final DataViewSpliterator prefix = new DataViewSpliterator(this.view, this.keys, this.deep, this.index, mid);
+        this.index = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.deep ? Long.MAX_VALUE : this.end - this.index;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    private static final class Level {
+
+        final DataView view;
+        final DataQuery path;
+        final Iterator<DataQuery> keys;
+
+        Level(DataView view, DataQuery path, Iterator<DataQuery> keys) {
+            this.view = view;
+            this.path = path;
+            this.keys = keys;
+        }
+
+    }
+
+}
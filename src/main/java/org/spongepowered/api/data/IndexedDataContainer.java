@@ -0,0 +1,241 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.BaseValue;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link DataContainer} that stores all of its data in a single index
+ * from the full {@link DataQuery} of every value to the value.
+ *
+ * <p>Reading a value at any depth, or checking that it exists, is a single
+ * lookup instead of one lookup per part of the query. Child
+ * {@link DataView}s are only a path prefix into the index of their
+ * container, and if all data is cloned, {@link #copy()} shares the index
+ * with the copy until either of them is modified. A {@link #lazy}
+ * container only loads its views when they are accessed.</p>
+ *
+ * <p>Like other data containers, this class is not thread safe.</p>
+ */
+public final class IndexedDataContainer extends IndexedDataView implements DataContainer {
+
+    final SafetyMode safety;
+    Store store;
+
+    /**
+     * Creates a new empty container with a {@link SafetyMode} of
+     * {@link SafetyMode#ALL_DATA_CLONED}.
+     */
+    public IndexedDataContainer() {
+        this(SafetyMode.ALL_DATA_CLONED);
+    }
+
+    /**
+     * Creates a new empty container with the given {@link SafetyMode}.
+     *
+     * @param safety The safety mode
+     */
+    public IndexedDataContainer(SafetyMode safety) {
+        this(safety, new Store());
+    }
+
+    /**
+     * Creates a new container filled by the given {@link Loader}. Views the
+     * loader adds with {@link Entries#setLazy} are only loaded once they, or
+     * anything in them, is accessed.
+     *
+     * @param loader The loader of the entries of the container
+     * @return The new container
+     */
+    public static IndexedDataContainer lazy(Loader loader) {
+        checkNotNull(loader, "loader");
+        final IndexedDataContainer container = new IndexedDataContainer();
+        container.load(container.store, DataQuery.of(), loader);
+        return container;
+    }
+
+    private IndexedDataContainer(SafetyMode safety, Store store) {
+        super(null, DataQuery.of());
+        this.safety = checkNotNull(safety, "safety");
+        this.store = store;
+    }
+
+    /**
+     * Gets the store of this container for modification, copying it first if
+     * it is shared with a copy of this container.
+     *
+     * @return The store
+     */
+    Store writableStore() {
+        if (this.store.owners.get() > 1) {
+            final Store copy = this.store.copy();
+            this.store.owners.decrementAndGet();
+            this.store = copy;
+        }
+        return this.store;
+    }
+
+    @Override
+    public DataContainer copy(SafetyMode safety) {
+        // Only containers cloning the values they return can't be changed by reading
+        if (safety != this.safety || safety != SafetyMode.ALL_DATA_CLONED) {
+            return super.copy(safety);
+        }
+        this.store.owners.incrementAndGet();
+        return new IndexedDataContainer(safety, this.store);
+    }
+
+    @Override
+    public IndexedDataContainer set(DataQuery path, Object value) {
+        super.set(path, value);
+        return this;
+    }
+
+    @Override
+    public <E> IndexedDataContainer set(Key<? extends BaseValue<E>> key, E value) {
+        super.set(key, value);
+        return this;
+    }
+
+    @Override
+    public IndexedDataContainer remove(DataQuery path) {
+        super.remove(path);
+        return this;
+    }
+
+    /**
+     * Loads the entries of a view of a {@link #lazy} container.
+     *
+     * <p>A loader may be called again for every copy of the container it
+     * was added to, so it shouldn't change after it was added.</p>
+     */
+    @FunctionalInterface
+    public interface Loader {
+
+        /**
+         * Adds the entries of the view to the given {@link Entries}.
+         *
+         * @param entries The entries of the view
+         */
+        void load(Entries entries);
+
+    }
+
+    /**
+     * The entries of a view that is being loaded by a {@link Loader}.
+     */
+    public interface Entries {
+
+        /**
+         * Sets the value of an entry, see {@link DataView#set(DataQuery, Object)}.
+         *
+         * @param key The key of the entry
+         * @param value The value
+         */
+        void set(String key, Object value);
+
+        /**
+         * Sets an entry to a view that is loaded by the given loader when it
+         * is first accessed.
+         *
+         * @param key The key of the entry
+         * @param loader The loader of the view
+         */
+        void setLazy(String key, Loader loader);
+
+    }
+
+    /**
+     * Stands in for a view that wasn't loaded yet.
+     */
+    static final class LazyView {
+
+        final Loader loader;
+
+        LazyView(Loader loader) {
+            this.loader = loader;
+        }
+
+    }
+
+    /**
+     * The index of a container, possibly shared by several copies.
+     */
+    static final class Store {
+
+        /**
+         * All values that aren't views, or views that weren't loaded yet, by
+         * their full path.
+         */
+        final Map<DataQuery, Object> values;
+
+        /**
+         * The names of the children of every view, by the full path of the
+         * view, in insertion order.
+         */
+        final Map<DataQuery, Set<String>> children;
+
+        /**
+         * The number of containers using this store.
+         */
+        final AtomicInteger owners = new AtomicInteger(1);
+
+        /**
+         * Whether {@link #values} may contain {@link LazyView}s.
+         */
+        boolean lazy;
+
+        Store() {
+            this.values = new HashMap<>();
+            this.children = new HashMap<>();
+            this.children.put(DataQuery.of(), new LinkedHashSet<>());
+        }
+
+        private Store(Store store) {
+            this.values = new HashMap<>(store.values);
+            this.values.replaceAll((path, value) -> IndexedDataView.cloneValue(value));
+            this.lazy = store.lazy;
+            this.children = new HashMap<>(store.children.size() * 4 / 3 + 1);
+            for (Map.Entry<DataQuery, Set<String>> entry : store.children.entrySet()) {
+                this.children.put(entry.getKey(), new LinkedHashSet<>(entry.getValue()));
+            }
+        }
+
+        Store copy() {
+            return new Store(this);
+        }
+
+    }
+
+}
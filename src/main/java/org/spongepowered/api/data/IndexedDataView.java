@@ -0,0 +1,818 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.spongepowered.api.CatalogType;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.persistence.DataTranslator;
+import org.spongepowered.api.data.value.BaseValue;
+import org.spongepowered.api.util.Coerce;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link DataView} of an {@link IndexedDataContainer}. A view is only a
+ * path prefix into the index of its container, so creating one is cheap
+ * and it always reflects the current contents of the container.
+ */
+class IndexedDataView implements DataView {
+
+    final IndexedDataContainer container;
+    final DataQuery path;
+
+    IndexedDataView(@Nullable IndexedDataContainer container, DataQuery path) {
+        // A container is the root view of itself
+        this.container = container == null ? (IndexedDataContainer) this : container;
+        this.path = path;
+    }
+
+    @Override
+    public IndexedDataContainer getContainer() {
+        return this.container;
+    }
+
+    @Override
+    public DataQuery getCurrentPath() {
+        return this.path;
+    }
+
+    @Override
+    public String getName() {
+        return this.path.getLastPart();
+    }
+
+    @Override
+    public Optional<DataView> getParent() {
+        if (this.path.getParts().isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(view(this.path.pop()));
+    }
+
+    @Override
+    public Set<DataQuery> getKeys(boolean deep) {
+        final ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
+        collect(this.path, DataQuery.of(), deep, (key, value) -> builder.add(key));
+        return builder.build();
+    }
+
+    @Override
+    public Map<DataQuery, Object> getValues(boolean deep) {
+        final ImmutableMap.Builder<DataQuery, Object> builder = ImmutableMap.builder();
+        collect(this.path, DataQuery.of(), deep, builder::put);
+        return builder.build();
+    }
+
+    /**
+     * Visits the children of the view at the given full path. Child views
+     * are passed as lightweight {@link IndexedDataView}s.
+     */
+    private void collect(DataQuery full, DataQuery relative, boolean deep, EntryConsumer consumer) {
+        final IndexedDataContainer.Store store = loadedStore(full);
+        final Set<String> names = store.children.get(full);
+        if (names == null) {
+            return;
+        }
+        for (String name : names) {
+            final DataQuery childFull = full.then(name);
+            final DataQuery childRelative = relative.then(name);
+            final Object value = store.values.get(childFull);
+            if (value != null && !(value instanceof IndexedDataContainer.LazyView)) {
+                consumer.accept(childRelative, read(value));
+            } else {
+                consumer.accept(childRelative, view(childFull));
+                if (deep) {
+                    collect(childFull, childRelative, true, consumer);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean contains(DataQuery path) {
+        checkNotNull(path, "path");
+        final DataQuery full = this.path.then(path);
+        final IndexedDataContainer.Store store = readableStore(full);
+        return store.values.containsKey(full) || store.children.containsKey(full);
+    }
+
+    @Override
+    public boolean contains(DataQuery path, DataQuery... paths) {
+        if (!contains(path)) {
+            return false;
+        }
+        for (DataQuery query : paths) {
+            if (!contains(query)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Optional<Object> get(DataQuery path) {
+        checkNotNull(path, "path");
+        final DataQuery full = this.path.then(path);
+        final IndexedDataContainer.Store store = readableStore(full);
+        final Object value = store.values.get(full);
+        if (value != null && !(value instanceof IndexedDataContainer.LazyView)) {
+            return Optional.of(read(value));
+        }
+        if (value != null || store.children.containsKey(full)) {
+            return Optional.of(view(full));
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public DataView set(DataQuery path, Object value) {
+        checkNotNull(path, "path");
+        checkNotNull(value, "value");
+        checkArgument(!path.getParts().isEmpty(), "The path may not be empty");
+        if (value instanceof IndexedDataView && ((IndexedDataView) value).container == this.container) {
+            // The view may contain the path that is being overwritten
+            value = ((IndexedDataView) value).copy();
+        }
+        final DataQuery full = this.path.then(path);
+        put(writableStore(full), full, value);
+        return this;
+    }
+
+    @Override
+    public <E> DataView set(Key<? extends BaseValue<E>> key, E value) {
+        return set(checkNotNull(key, "key").getQuery(), value);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void put(IndexedDataContainer.Store store, DataQuery full, Object value) {
+        if (value instanceof DataView) {
+            createView(store, full);
+            for (Map.Entry<DataQuery, Object> entry : ((DataView) value).getValues(false).entrySet()) {
+                put(store, full.then(entry.getKey()), entry.getValue());
+            }
+        } else if (value instanceof Map) {
+            createView(store, full);
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                put(store, full.then(DataQuery.of('.', entry.getKey().toString())), entry.getValue());
+            }
+        } else if (value instanceof DataSerializable) {
+            put(store, full, ((DataSerializable) value).toContainer());
+        } else if (value instanceof CatalogType) {
+            put(store, full, ((CatalogType) value).getId());
+        } else if (value instanceof Collection) {
+            putLeaf(store, full, serialize((Collection<?>) value));
+        } else if (value.getClass().isArray()) {
+            putLeaf(store, full, getSafetyMode() == SafetyMode.NO_DATA_CLONED ? value : cloneArray(value));
+        } else if (value instanceof Number || value instanceof String || value instanceof Boolean || value instanceof Character) {
+            putLeaf(store, full, value);
+        } else {
+            final Optional<DataTranslator> translator = (Optional) Sponge.getDataManager().getTranslator(value.getClass());
+            if (translator.isPresent()) {
+                put(store, full, translator.get().translate(value));
+            } else {
+                putLeaf(store, full, value);
+            }
+        }
+    }
+
+    private List<Object> serialize(Collection<?> collection) {
+        final boolean clone = getSafetyMode() != SafetyMode.NO_DATA_CLONED;
+        final List<Object> list = new ArrayList<>(collection.size());
+        for (Object element : collection) {
+            if (element instanceof IndexedDataView || (clone && (element instanceof DataView || element instanceof Map))) {
+                // Views of this container are only paths, they have to be copied in any case
+                list.add(cloneElement(element));
+            } else if (element instanceof DataSerializable) {
+                list.add(((DataSerializable) element).toContainer());
+            } else if (element instanceof CatalogType) {
+                list.add(((CatalogType) element).getId());
+            } else if (element instanceof Collection) {
+                list.add(serialize((Collection<?>) element));
+            } else {
+                list.add(clone ? cloneArray(element) : element);
+            }
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    private static void putLeaf(IndexedDataContainer.Store store, DataQuery full, Object value) {
+        remove(store, full);
+        link(store, full);
+        store.values.put(full, value);
+    }
+
+    private static void createView(IndexedDataContainer.Store store, DataQuery full) {
+        remove(store, full);
+        link(store, full);
+        store.children.put(full, new LinkedHashSet<>());
+    }
+
+    /**
+     * Registers the given path with its parent view, creating missing parent
+     * views and replacing values that are in the way.
+     */
+    private static void link(IndexedDataContainer.Store store, DataQuery full) {
+        DataQuery child = full;
+        DataQuery parent = full.pop();
+        while (true) {
+            Set<String> names = store.children.get(parent);
+            if (names != null) {
+                names.add(child.getLastPart());
+                return;
+            }
+            store.values.remove(parent);
+            names = new LinkedHashSet<>();
+            names.add(child.getLastPart());
+            store.children.put(parent, names);
+            child = parent;
+            parent = parent.pop();
+        }
+    }
+
+    /**
+     * Removes the value or view at the given path, leaving its name in the
+     * parent view.
+     */
+    private static void remove(IndexedDataContainer.Store store, DataQuery full) {
+        if (store.values.remove(full) != null) {
+            return;
+        }
+        final Set<String> names = store.children.remove(full);
+        if (names != null) {
+            for (String name : names) {
+                remove(store, full.then(name));
+            }
+        }
+    }
+
+    @Override
+    public DataView remove(DataQuery path) {
+        checkNotNull(path, "path");
+        checkArgument(!path.getParts().isEmpty(), "The path may not be empty");
+        final DataQuery full = this.path.then(path);
+        if (!contains(path)) {
+            return this;
+        }
+        final IndexedDataContainer.Store store = writableStore(full);
+        remove(store, full);
+        final Set<String> names = store.children.get(full.pop());
+        if (names != null) {
+            names.remove(full.getLastPart());
+        }
+        return this;
+    }
+
+    @Override
+    public DataView createView(DataQuery path) {
+        checkNotNull(path, "path");
+        checkArgument(!path.getParts().isEmpty(), "The path may not be empty");
+        final DataQuery full = this.path.then(path);
+        createView(writableStore(full), full);
+        return view(full);
+    }
+
+    @Override
+    public DataView createView(DataQuery path, Map<?, ?> map) {
+        checkNotNull(map, "map");
+        final DataView view = createView(path);
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            view.set(DataQuery.of('.', entry.getKey().toString()), entry.getValue());
+        }
+        return view;
+    }
+
+    @Override
+    public Optional<DataView> getView(DataQuery path) {
+        checkNotNull(path, "path");
+        final DataQuery full = this.path.then(path);
+        final IndexedDataContainer.Store store = readableStore(full);
+        if (store.children.containsKey(full) || store.values.get(full) instanceof IndexedDataContainer.LazyView) {
+            return Optional.of(view(full));
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<? extends Map<?, ?>> getMap(DataQuery path) {
+        return getView(path).map(IndexedDataView::toMap);
+    }
+
+    private static Map<String, Object> toMap(DataView view) {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        for (Map.Entry<DataQuery, Object> entry : view.getValues(false).entrySet()) {
+            final Object value = entry.getValue();
+            map.put(entry.getKey().getLastPart(), value instanceof DataView ? toMap((DataView) value) : value);
+        }
+        return map;
+    }
+
+    @Override
+    public Optional<Boolean> getBoolean(DataQuery path) {
+        return get(path).flatMap(Coerce::asBoolean);
+    }
+
+    @Override
+    public Optional<Short> getShort(DataQuery path) {
+        return get(path).flatMap(Coerce::asShort);
+    }
+
+    @Override
+    public Optional<Byte> getByte(DataQuery path) {
+        return get(path).flatMap(Coerce::asByte);
+    }
+
+    @Override
+    public Optional<Integer> getInt(DataQuery path) {
+        return get(path).flatMap(Coerce::asInteger);
+    }
+
+    @Override
+    public Optional<Long> getLong(DataQuery path) {
+        return get(path).flatMap(Coerce::asLong);
+    }
+
+    @Override
+    public Optional<Float> getFloat(DataQuery path) {
+        return get(path).flatMap(Coerce::asFloat);
+    }
+
+    @Override
+    public Optional<Double> getDouble(DataQuery path) {
+        return get(path).flatMap(Coerce::asDouble);
+    }
+
+    @Override
+    public Optional<String> getString(DataQuery path) {
+        return get(path).flatMap(Coerce::asString);
+    }
+
+    @Override
+    public Optional<List<?>> getList(DataQuery path) {
+        final Optional<Object> value = get(path);
+        if (value.isPresent() && (value.get() instanceof List || value.get().getClass().isArray())) {
+            return Coerce.asList(value.get());
+        }
+        return Optional.empty();
+    }
+
+    private <T> Optional<List<T>> getList(DataQuery path, Function<Object, Optional<T>> mapper) {
+        return getList(path).map(list -> {
+            final List<T> result = new ArrayList<>(list.size());
+            for (Object element : list) {
+                mapper.apply(element).ifPresent(result::add);
+            }
+            return result;
+        });
+    }
+
+    @Override
+    public Optional<List<String>> getStringList(DataQuery path) {
+        return getList(path, Coerce::asString);
+    }
+
+    @Override
+    public Optional<List<Character>> getCharacterList(DataQuery path) {
+        return getList(path, Coerce::asChar);
+    }
+
+    @Override
+    public Optional<List<Boolean>> getBooleanList(DataQuery path) {
+        return getList(path, Coerce::asBoolean);
+    }
+
+    @Override
+    public Optional<List<Byte>> getByteList(DataQuery path) {
+        return getList(path, Coerce::asByte);
+    }
+
+    @Override
+    public Optional<List<Short>> getShortList(DataQuery path) {
+        return getList(path, Coerce::asShort);
+    }
+
+    @Override
+    public Optional<List<Integer>> getIntegerList(DataQuery path) {
+        return getList(path, Coerce::asInteger);
+    }
+
+    @Override
+    public Optional<List<Long>> getLongList(DataQuery path) {
+        return getList(path, Coerce::asLong);
+    }
+
+    @Override
+    public Optional<List<Float>> getFloatList(DataQuery path) {
+        return getList(path, Coerce::asFloat);
+    }
+
+    @Override
+    public Optional<List<Double>> getDoubleList(DataQuery path) {
+        return getList(path, Coerce::asDouble);
+    }
+
+    @Override
+    public Optional<List<Map<?, ?>>> getMapList(DataQuery path) {
+        return getList(path, element -> {
+            if (element instanceof Map) {
+                return Optional.of((Map<?, ?>) element);
+            } else if (element instanceof DataView) {
+                return Optional.of(toMap((DataView) element));
+            }
+            return Optional.empty();
+        });
+    }
+
+    @Override
+    public Optional<List<DataView>> getViewList(DataQuery path) {
+        return getList(path, element -> {
+            if (element instanceof DataView) {
+                return Optional.of((DataView) element);
+            } else if (element instanceof Map) {
+                final DataContainer container = new IndexedDataContainer(getSafetyMode());
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) element).entrySet()) {
+                    container.set(DataQuery.of('.', entry.getKey().toString()), entry.getValue());
+                }
+                return Optional.of(container);
+            }
+            return Optional.empty();
+        });
+    }
+
+    @Override
+    public <T extends DataSerializable> Optional<T> getSerializable(DataQuery path, Class<T> clazz) {
+        checkNotNull(clazz, "clazz");
+        return getView(path).flatMap(view -> Sponge.getDataManager().getBuilder(clazz).flatMap(builder -> builder.build(view)));
+    }
+
+    @Override
+    public <T extends DataSerializable> Optional<List<T>> getSerializableList(DataQuery path, Class<T> clazz) {
+        checkNotNull(clazz, "clazz");
+        return getViewList(path).flatMap(views -> Sponge.getDataManager().getBuilder(clazz).map(builder -> {
+            final List<T> result = new ArrayList<>(views.size());
+            for (DataView view : views) {
+                builder.build(view).ifPresent(result::add);
+            }
+            return result;
+        }));
+    }
+
+    @Override
+    public <T> Optional<T> getObject(DataQuery path, Class<T> objectClass) {
+        checkNotNull(objectClass, "objectClass");
+        return getView(path).flatMap(view -> Sponge.getDataManager().getTranslator(objectClass).map(translator -> translator.translate(view)));
+    }
+
+    @Override
+    public <T> Optional<List<T>> getObjectList(DataQuery path, Class<T> objectClass) {
+        checkNotNull(objectClass, "objectClass");
+        return getViewList(path).flatMap(views -> Sponge.getDataManager().getTranslator(objectClass).map(translator -> {
+            final List<T> result = new ArrayList<>(views.size());
+            for (DataView view : views) {
+                result.add(translator.translate(view));
+            }
+            return result;
+        }));
+    }
+
+    @Override
+    public <T extends CatalogType> Optional<T> getCatalogType(DataQuery path, Class<T> catalogType) {
+        checkNotNull(catalogType, "catalogType");
+        return getString(path).flatMap(id -> Sponge.getRegistry().getType(catalogType, id));
+    }
+
+    @Override
+    public <T extends CatalogType> Optional<List<T>> getCatalogTypeList(DataQuery path, Class<T> catalogType) {
+        checkNotNull(catalogType, "catalogType");
+        return getList(path, element -> Coerce.asString(element).flatMap(id -> Sponge.getRegistry().getType(catalogType, id)));
+    }
+
+    @Override
+    public DataContainer copy() {
+        return copy(getSafetyMode());
+    }
+
+    @Override
+    public DataContainer copy(SafetyMode safety) {
+        checkNotNull(safety, "safety");
+        final IndexedDataContainer copy = new IndexedDataContainer(safety);
+        copy(loadedStore(this.path), this.path, copy.store, DataQuery.of(), safety != SafetyMode.NO_DATA_CLONED);
+        return copy;
+    }
+
+    static void copy(IndexedDataContainer.Store from, DataQuery fromPath, IndexedDataContainer.Store to, DataQuery toPath, boolean clone) {
+        final Set<String> names = from.children.get(fromPath);
+        if (names == null) {
+            return;
+        }
+        to.children.put(toPath, new LinkedHashSet<>(names));
+        to.lazy |= from.lazy;
+        for (String name : names) {
+            final DataQuery child = fromPath.then(name);
+            final Object value = from.values.get(child);
+            if (value != null) {
+                // Lazy views are copied unloaded, loaders can be used repeatedly
+                to.values.put(toPath.then(name), clone ? cloneValue(value) : value);
+            } else {
+                copy(from, child, to, toPath.then(name), clone);
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        final Set<String> names = loadedStore(this.path).children.get(this.path);
+        return names == null || names.isEmpty();
+    }
+
+    @Override
+    public SafetyMode getSafetyMode() {
+        return this.container.safety;
+    }
+
+    /**
+     * Gets the store for reading the given full path, loading the lazy views
+     * containing it first.
+     */
+    private IndexedDataContainer.Store readableStore(DataQuery full) {
+        final IndexedDataContainer.Store store = this.container.store;
+        if (store.lazy) {
+            loadParents(store, full);
+        }
+        return store;
+    }
+
+    /**
+     * Gets the store for reading the children of the view at the given full
+     * path, loading the view and the lazy views containing it first.
+     */
+    private IndexedDataContainer.Store loadedStore(DataQuery full) {
+        final IndexedDataContainer.Store store = this.container.store;
+        if (store.lazy) {
+            loadParents(store, full);
+            load(store, full);
+        }
+        return store;
+    }
+
+    /**
+     * Gets the store for modifying the given full path, loading the lazy
+     * views containing it first.
+     */
+    private IndexedDataContainer.Store writableStore(DataQuery full) {
+        final IndexedDataContainer.Store store = this.container.writableStore();
+        if (store.lazy) {
+            loadParents(store, full);
+        }
+        return store;
+    }
+
+    private void loadParents(IndexedDataContainer.Store store, DataQuery full) {
+        final DataQuery parent = full.pop();
+        if (parent != full) {
+            loadParents(store, parent);
+            load(store, parent);
+        }
+    }
+
+    private void load(IndexedDataContainer.Store store, DataQuery full) {
+        final Object value = store.values.get(full);
+        if (value instanceof IndexedDataContainer.LazyView) {
+            store.values.remove(full);
+            load(store, full, ((IndexedDataContainer.LazyView) value).loader);
+        }
+    }
+
+    /**
+     * Creates a view at the given full path, filled by the given loader.
+     */
+    void load(IndexedDataContainer.Store store, DataQuery full, IndexedDataContainer.Loader loader) {
+        store.children.putIfAbsent(full, new LinkedHashSet<>());
+        loader.load(new IndexedDataContainer.Entries() {
+            @Override
+            public void set(String key, Object value) {
+                checkNotNull(value, "value");
+                put(store, full.then(key), value);
+            }
+
+            @Override
+            public void setLazy(String key, IndexedDataContainer.Loader loader) {
+                checkNotNull(loader, "loader");
+                final DataQuery child = full.then(key);
+                remove(store, child);
+                link(store, child);
+                store.values.put(child, new IndexedDataContainer.LazyView(loader));
+                store.lazy = true;
+            }
+        });
+    }
+
+    /**
+     * Gets the view at the given full path, which must be a view.
+     */
+    private IndexedDataView view(DataQuery full) {
+        return full.getParts().isEmpty() ? this.container : new IndexedDataView(this.container, full);
+    }
+
+    /**
+     * Prepares a stored value to be handed out according to the safety mode.
+     */
+    private Object read(Object value) {
+        if (getSafetyMode() != SafetyMode.ALL_DATA_CLONED) {
+            return value;
+        }
+        if (value instanceof List) {
+            return cloneElements((List<?>) value);
+        }
+        return cloneArray(value);
+    }
+
+    /**
+     * Clones the given stored value, including the views, maps and arrays in
+     * stored lists. The clone of a list is unmodifiable like the list.
+     */
+    static Object cloneValue(Object value) {
+        if (value instanceof List) {
+            return Collections.unmodifiableList(cloneElements((List<?>) value));
+        }
+        return cloneArray(value);
+    }
+
+    private static List<Object> cloneElements(List<?> list) {
+        final List<Object> copy = new ArrayList<>(list.size());
+        for (Object element : list) {
+            copy.add(cloneElement(element));
+        }
+        return copy;
+    }
+
+    private static Object cloneElement(Object element) {
+        if (element instanceof DataView) {
+            return ((DataView) element).copy();
+        } else if (element instanceof Map) {
+            final Map<Object, Object> copy = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) element).entrySet()) {
+                copy.put(entry.getKey(), cloneElement(entry.getValue()));
+            }
+            return copy;
+        }
+        return cloneValue(element);
+    }
+
+    /**
+     * Clones the given value if it is an array, other values are immutable.
+     */
+    static Object cloneArray(Object value) {
+        if (!value.getClass().isArray()) {
+            return value;
+        }
+        final int length = Array.getLength(value);
+        final Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+        System.arraycopy(value, 0, copy, 0, length);
+        return copy;
+    }
+
+    // Equality and hashing use the stored values, as the values returned under
+    // ALL_DATA_CLONED contain new array copies, which only compare by identity
+
+    @Override
+    public int hashCode() {
+        return hash(this.path);
+    }
+
+    private int hash(DataQuery full) {
+        final IndexedDataContainer.Store store = loadedStore(full);
+        final Set<String> names = store.children.get(full);
+        if (names == null) {
+            return 0;
+        }
+        // Like Map#hashCode, independent of the order of the entries
+        int hash = 0;
+        for (String name : names) {
+            final DataQuery child = full.then(name);
+            final Object value = store.values.get(child);
+            final boolean leaf = value != null && !(value instanceof IndexedDataContainer.LazyView);
+            hash += name.hashCode() ^ (leaf ? hashValue(value) : hash(child));
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof IndexedDataView)) {
+            return false;
+        }
+        final IndexedDataView other = (IndexedDataView) obj;
+        return equal(this.path, other, other.path);
+    }
+
+    private boolean equal(DataQuery full, IndexedDataView other, DataQuery otherFull) {
+        final IndexedDataContainer.Store store = loadedStore(full);
+        final IndexedDataContainer.Store otherStore = other.loadedStore(otherFull);
+        final Set<String> names = store.children.getOrDefault(full, Collections.emptySet());
+        if (!names.equals(otherStore.children.getOrDefault(otherFull, Collections.emptySet()))) {
+            return false;
+        }
+        for (String name : names) {
+            final DataQuery child = full.then(name);
+            final DataQuery otherChild = otherFull.then(name);
+            final Object value = store.values.get(child);
+            final Object otherValue = otherStore.values.get(otherChild);
+            final boolean leaf = value != null && !(value instanceof IndexedDataContainer.LazyView);
+            final boolean otherLeaf = otherValue != null && !(otherValue instanceof IndexedDataContainer.LazyView);
+            if (leaf != otherLeaf || (leaf ? !equalValues(value, otherValue) : !equal(child, other, otherChild))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hashValue(Object value) {
+        if (value instanceof List) {
+            int hash = 1;
+            for (Object element : (List<?>) value) {
+                hash = 31 * hash + hashValue(element);
+            }
+            return hash;
+        }
+        return Arrays.deepHashCode(new Object[] {value});
+    }
+
+    private static boolean equalValues(Object value, Object other) {
+        if (value instanceof List && other instanceof List) {
+            final List<?> list = (List<?>) value;
+            final List<?> otherList = (List<?>) other;
+            if (list.size() != otherList.size()) {
+                return false;
+            }
+            for (int i = 0; i < list.size(); i++) {
+                if (!equalValues(list.get(i), otherList.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return Arrays.deepEquals(new Object[] {value}, new Object[] {other});
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("path", this.path)
+                .add("safety", getSafetyMode())
+                .add("values", getValues(false))
+                .toString();
+    }
+
+    @FunctionalInterface
+    private interface EntryConsumer {
+
+        void accept(DataQuery key, Object value);
+
+    }
+
+}
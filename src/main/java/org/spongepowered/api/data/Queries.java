@@ -24,8 +24,6 @@
  */
 package org.spongepowered.api.data;
 
-import static org.spongepowered.api.data.DataQuery.of;
-
 public final class Queries {
 
     // Content version
@@ -88,6 +86,10 @@ public final class Queries {
     public static final DataQuery UUID_LEAST = of("UuidLeast");
     public static final DataQuery UUID_MOST = of("UuidMost");
 
+    private static DataQuery of(String name) {
+        return DataQuery.of(name).intern();
+    }
+
     // Suppress default constructor to ensure non-instantiability.
     private Queries() {
         throw new AssertionError("You should not be attempting to instantiate this class.");
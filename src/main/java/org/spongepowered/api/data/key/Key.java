@@ -31,6 +31,7 @@
 import org.spongepowered.api.data.DataHolder;
 import org.spongepowered.api.data.DataQuery;
 import org.spongepowered.api.data.DataSerializable;
+import org.spongepowered.api.data.manipulator.mutable.common.AbstractData;
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.data.value.ValueContainer;
 import org.spongepowered.api.event.EventListener;
@@ -86,12 +87,26 @@
 
     /**
      * Gets the {@link DataQuery} for recommended use with
-     * {@link DataContainer}s.
+     * {@link DataContainer}s. The returned query is
+     * {@link DataQuery#intern() interned}.
      *
      * @return The recommended {@link DataQuery} for use
      */
     DataQuery getQuery();
 
+    /**
+     * Gets the ordinal of this key. Ordinals are assigned when a key is
+     * {@link Builder#build() built}, are unique among all keys and are
+     * allocated densely from zero, which allows key based lookups such as
+     * those of {@link AbstractData} to be a single array access.
+     *
+     * <p>Ordinals are only stable for the lifetime of the game instance
+     * and should never be persisted.</p>
+     *
+     * @return The ordinal of this key
+     */
+    int getOrdinal();
+
     /**
      * Register an event listener which listens to the value the key accesses
      * changing.
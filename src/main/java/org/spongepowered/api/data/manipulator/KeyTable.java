@@ -0,0 +1,280 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.manipulator;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.manipulator.immutable.common.AbstractImmutableData;
+import org.spongepowered.api.data.manipulator.mutable.common.AbstractData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+/**
+ * The functions registered for the {@link Key}s of a data manipulator
+ * class, indexed by {@link Key#getOrdinal()}. This backs the class level
+ * registrations of {@link AbstractData} and {@link AbstractImmutableData}
+ * and is not meant to be used directly.
+ *
+ * <p>A table can only be changed through the {@link Registry} which created
+ * it. Changes replace the underlying arrays, so lookups never need to
+ * lock.</p>
+ */
+public final class KeyTable {
+
+    private static final Entry[] EMPTY = new Entry[0];
+
+    /**
+     * Creates a new registry of tables for every class extending the given
+     * root class.
+     *
+     * @param root The root class, which has no registrations itself
+     * @return The registry
+     */
+    public static Registry registry(Class<?> root) {
+        return new Registry(checkNotNull(root, "root"));
+    }
+
+    @Nullable private final KeyTable parent;
+    // The tables of subclasses which were created so far, guarded by the registry
+    private final List<KeyTable> children = new ArrayList<>();
+    // Registered for this class itself, in registration order, guarded by the registry
+    private final List<Entry> own = new ArrayList<>();
+    private volatile Entry[] byOrdinal = EMPTY;
+    // In registration order, starting with the entries of the parent
+    private volatile List<Entry> entries = ImmutableList.of();
+
+    private KeyTable(@Nullable KeyTable parent) {
+        this.parent = parent;
+        if (parent != null) {
+            this.byOrdinal = parent.byOrdinal;
+            this.entries = parent.entries;
+        }
+    }
+
+    /**
+     * Gets the entry registered for the given key.
+     *
+     * @param key The key
+     * @return The entry, or null if nothing is registered for the key
+     */
+    @Nullable
+    public Entry get(Key<?> key) {
+        final Entry[] byOrdinal = this.byOrdinal;
+        final int ordinal = key.getOrdinal();
+        if (ordinal < 0 || ordinal >= byOrdinal.length) {
+            return null;
+        }
+        final Entry entry = byOrdinal[ordinal];
+        return entry != null && entry.key == key ? entry : null;
+    }
+
+    /**
+     * Gets all registered entries, in registration order.
+     *
+     * @return The entries
+     */
+    public List<Entry> getEntries() {
+        return this.entries;
+    }
+
+    // Rebuilds the lookup arrays of this table and all subclass tables
+    private void update() {
+        Entry[] byOrdinal = this.parent == null ? EMPTY : this.parent.byOrdinal.clone();
+        final List<Entry> entries = new ArrayList<>(this.parent == null ? ImmutableList.of() : this.parent.entries);
+        for (Entry entry : this.own) {
+            final int ordinal = entry.key.getOrdinal();
+            if (ordinal >= byOrdinal.length) {
+                byOrdinal = Arrays.copyOf(byOrdinal, ordinal + 1);
+            }
+            final Entry inherited = byOrdinal[ordinal];
+            checkArgument(inherited == null || inherited.key == entry.key, "The key %s has the same ordinal as %s",
+                    entry.key, inherited == null ? null : inherited.key);
+            final Entry merged = inherited == null ? entry : inherited.overriddenBy(entry);
+            byOrdinal[ordinal] = merged;
+            if (inherited == null) {
+                entries.add(merged);
+            } else {
+                entries.set(entries.indexOf(inherited), merged);
+            }
+        }
+        this.entries = ImmutableList.copyOf(entries);
+        this.byOrdinal = byOrdinal;
+        for (KeyTable child : this.children) {
+            child.update();
+        }
+    }
+
+    /**
+     * The tables of every class extending a root class. The table of a
+     * class includes the registrations of its superclasses up to the root
+     * class, including those made after the table was created.
+     *
+     * <p>Only the holder of a registry can change its tables.</p>
+     */
+    public static final class Registry {
+
+        private final Class<?> root;
+        private final ClassValue<KeyTable> tables = new ClassValue<KeyTable>() {
+            @Override
+            protected KeyTable computeValue(Class<?> type) {
+                final Class<?> superType = type.getSuperclass();
+                final KeyTable parent = superType != null && superType != Registry.this.root
+                        && Registry.this.root.isAssignableFrom(superType) ? get(superType) : null;
+                synchronized (Registry.this) {
+                    final KeyTable table = new KeyTable(parent);
+                    if (parent != null) {
+                        parent.children.add(table);
+                    }
+                    return table;
+                }
+            }
+        };
+
+        Registry(Class<?> root) {
+            this.root = root;
+        }
+
+        /**
+         * Gets the table of the given class.
+         *
+         * @param type The class
+         * @return The table
+         */
+        public KeyTable get(Class<?> type) {
+            return this.tables.get(checkNotNull(type, "type"));
+        }
+
+        /**
+         * Registers functions for the given key on the given class and all
+         * of its subclasses. Functions that are null keep the previously
+         * registered function for the key.
+         *
+         * @param type The class
+         * @param key The key
+         * @param getter The function getting the field of the key
+         * @param setter The function setting the field of the key
+         * @param value The function creating the value of the key
+         */
+        @SuppressWarnings("unchecked")
+        public synchronized void register(Class<?> type, Key<?> key, @Nullable Function<?, ?> getter,
+                @Nullable BiConsumer<?, ?> setter, @Nullable Function<?, ?> value) {
+            checkArgument(this.root.isAssignableFrom(checkNotNull(type, "type")) && type != this.root,
+                    "The class %s doesn't extend %s", type, this.root);
+            final int ordinal = checkNotNull(key, "key").getOrdinal();
+            checkArgument(ordinal >= 0, "The key %s has no ordinal", key);
+            final KeyTable table = get(type);
+            final Entry existing = ordinal < table.byOrdinal.length ? table.byOrdinal[ordinal] : null;
+            checkArgument(existing == null || existing.key == key, "The key %s has the same ordinal as %s", key,
+                    existing == null ? null : existing.key);
+            final Entry entry = new Entry(key, (Function<Object, ?>) getter, (BiConsumer<Object, Object>) setter,
+                    (Function<Object, ?>) value);
+            for (int i = 0; i < table.own.size(); i++) {
+                if (table.own.get(i).key == key) {
+                    table.own.set(i, table.own.get(i).overriddenBy(entry));
+                    table.update();
+                    return;
+                }
+            }
+            table.own.add(entry);
+            table.update();
+        }
+
+    }
+
+    /**
+     * The functions registered for a single {@link Key}.
+     */
+    public static final class Entry {
+
+        private final Key<?> key;
+        @Nullable private final Function<Object, ?> getter;
+        @Nullable private final BiConsumer<Object, Object> setter;
+        @Nullable private final Function<Object, ?> value;
+
+        Entry(Key<?> key, @Nullable Function<Object, ?> getter, @Nullable BiConsumer<Object, Object> setter,
+                @Nullable Function<Object, ?> value) {
+            this.key = key;
+            this.getter = getter;
+            this.setter = setter;
+            this.value = value;
+        }
+
+        Entry overriddenBy(Entry entry) {
+            return new Entry(this.key, entry.getter == null ? this.getter : entry.getter,
+                    entry.setter == null ? this.setter : entry.setter, entry.value == null ? this.value : entry.value);
+        }
+
+        /**
+         * Gets the key of this entry.
+         *
+         * @return The key
+         */
+        public Key<?> getKey() {
+            return this.key;
+        }
+
+        /**
+         * Gets the function getting the field of the key from a manipulator.
+         *
+         * @return The getter, or null if none is registered
+         */
+        @Nullable
+        public Function<Object, ?> getGetter() {
+            return this.getter;
+        }
+
+        /**
+         * Gets the function setting the field of the key of a manipulator.
+         *
+         * @return The setter, or null if none is registered
+         */
+        @Nullable
+        public BiConsumer<Object, Object> getSetter() {
+            return this.setter;
+        }
+
+        /**
+         * Gets the function creating the value of the key from a
+         * manipulator.
+         *
+         * @return The value function, or null if none is registered
+         */
+        @Nullable
+        public Function<Object, ?> getValue() {
+            return this.value;
+        }
+
+    }
+
+}
@@ -33,20 +33,31 @@
 import org.spongepowered.api.data.key.Key;
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
+import org.spongepowered.api.data.manipulator.KeyTable;
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
 
 /**
  * An abstract implementation of an {@link ImmutableDataManipulator} such that
  * all fields are declared {@code final} and remain "immutable".
  *
+ * <p>Getters registered with {@link #registerFieldGetter(Class, Key, Function)}
+ * and {@link #registerKeyValue(Class, Key, Function)} are shared by every
+ * instance of the manipulator class and indexed by {@link Key#getOrdinal()},
+ * they are meant to be registered once in a static initializer. A class
+ * inherits the registrations of its superclasses.</p>
+ *
  * @param <I> The immutable data manipulator type
  * @param <M> The mutable manipulator type
  */
@@ -54,13 +65,44 @@
 public abstract class AbstractImmutableData<I extends ImmutableDataManipulator<I, M>, M extends DataManipulator<M, I>>
         implements ImmutableDataManipulator<I, M> {
 
+    private static final KeyTable.Registry TABLES = KeyTable.registry(AbstractImmutableData.class);
 
-    private final Map<Key<?>, Supplier<ImmutableValue<?>>> keyValueMap = Maps.newHashMap();
-    private final Map<Key<?>, Supplier<?>> keyFieldGetterMap = Maps.newHashMap();
+    private final KeyTable table = TABLES.get(getClass());
+    //lazy loaded, only used by the instance bound registrations
+    @Nullable private Map<Key<?>, Supplier<ImmutableValue<?>>> keyValueMap;
+    @Nullable private Map<Key<?>, Supplier<?>> keyFieldGetterMap;
 
     protected AbstractImmutableData() {
     }
 
+    /**
+     * Class level registration method for the keys to value return methods,
+     * shared by all instances of the given manipulator class.
+     *
+     * @param type The manipulator class
+     * @param key The key for the value return type
+     * @param function The function for getting the value
+     * @param <D> The manipulator type
+     */
+    protected static <D extends AbstractImmutableData<?, ?>> void registerKeyValue(Class<D> type, Key<?> key,
+            Function<? super D, ? extends ImmutableValue<?>> function) {
+        TABLES.register(type, key, null, null, checkNotNull(function, "function"));
+    }
+
+    /**
+     * Class level registration method for the keys to field getter methods,
+     * shared by all instances of the given manipulator class.
+     *
+     * @param type The manipulator class
+     * @param key The key for the value return type
+     * @param function The function for getting the field
+     * @param <D> The manipulator type
+     */
+    protected static <D extends AbstractImmutableData<?, ?>> void registerFieldGetter(Class<D> type, Key<?> key,
+            Function<? super D, ?> function) {
+        TABLES.register(type, key, checkNotNull(function, "function"), null, null);
+    }
+
     /**
      * Simple registration method for the keys to value return methods.
      *
@@ -71,6 +113,9 @@ protected AbstractImmutableData() {
      * @param function The function for getting the value
      */
     protected final void registerKeyValue(Key<?> key, Supplier<ImmutableValue<?>> function) {
+        if (this.keyValueMap == null) {
+            this.keyValueMap = Maps.newLinkedHashMap();
+        }
         this.keyValueMap.put(checkNotNull(key), checkNotNull(function));
     }
 
@@ -84,10 +129,19 @@ protected final void registerKeyValue(Key<?> key, Supplier<ImmutableValue<?>> fu
      * @param function The function for getting the field
      */
     protected final void registerFieldGetter(Key<?> key, Supplier<?> function) {
+        if (this.keyFieldGetterMap == null) {
+            this.keyFieldGetterMap = Maps.newLinkedHashMap();
+        }
         this.keyFieldGetterMap.put(checkNotNull(key), checkNotNull(function));
     }
 
-    protected abstract void registerGetters();
+    /**
+     * Registers the field and value getters bound to this instance.
+     * Manipulators using the class level registrations do not need to
+     * implement this.
+     */
+    protected void registerGetters() {
+    }
 
     @Override
     public final I copy() {
@@ -102,12 +156,20 @@ public <E> Optional<E> get(Key<? extends BaseValue<E>> key) {
         if (!supports(key)) {
             return Optional.empty();
         }
+        final KeyTable.Entry entry = this.table.get(key);
+        if (entry != null && entry.getGetter() != null) {
+            return Optional.of((E) entry.getGetter().apply(this));
+        }
         return Optional.of((E) this.keyFieldGetterMap.get(key).get());
     }
 
     @Override
     public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
-        if (!this.keyValueMap.containsKey(key)) {
+        final KeyTable.Entry entry = this.table.get(checkNotNull(key));
+        if (entry != null && entry.getValue() != null) {
+            return Optional.of((V) checkNotNull(entry.getValue().apply(this)));
+        }
+        if (this.keyValueMap == null || !this.keyValueMap.containsKey(key)) {
             return Optional.empty();
         }
         return Optional.of((V) checkNotNull(this.keyValueMap.get(key).get()));
@@ -115,30 +177,60 @@ public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
 
     @Override
     public boolean supports(Key<?> key) {
-        return this.keyFieldGetterMap.containsKey(checkNotNull(key));
+        final KeyTable.Entry entry = this.table.get(checkNotNull(key));
+        return entry != null && entry.getGetter() != null || this.keyFieldGetterMap != null && this.keyFieldGetterMap.containsKey(key);
     }
 
     @Override
     public Set<Key<?>> getKeys() {
-        return ImmutableSet.copyOf(this.keyValueMap.keySet());
+        final ImmutableSet.Builder<Key<?>> builder = ImmutableSet.builder();
+        for (KeyTable.Entry entry : this.table.getEntries()) {
+            if (entry.getValue() != null) {
+                builder.add(entry.getKey());
+            }
+        }
+        if (this.keyValueMap != null) {
+            builder.addAll(this.keyValueMap.keySet());
+        }
+        return builder.build();
     }
 
     @Override
     public Set<ImmutableValue<?>> getValues() {
-        ImmutableSet.Builder<ImmutableValue<?>> builder = ImmutableSet.builder();
-        for (Supplier<ImmutableValue<?>> function : this.keyValueMap.values()) {
-            builder.add(checkNotNull(function.get()));
+        final ImmutableSet.Builder<ImmutableValue<?>> builder = ImmutableSet.builder();
+        for (KeyTable.Entry entry : this.table.getEntries()) {
+            if (entry.getValue() != null) {
+                builder.add(checkNotNull((ImmutableValue<?>) entry.getValue().apply(this)));
+            }
+        }
+        if (this.keyValueMap != null) {
+            for (Supplier<ImmutableValue<?>> function : this.keyValueMap.values()) {
+                builder.add(checkNotNull(function.get()));
+            }
         }
         return builder.build();
     }
 
+    private List<Object> getFieldValues() {
+        final List<Object> values = new ArrayList<>();
+        for (KeyTable.Entry entry : this.table.getEntries()) {
+            if (entry.getGetter() != null) {
+                values.add(entry.getGetter().apply(this));
+            }
+        }
+        if (this.keyFieldGetterMap != null) {
+            for (Supplier<?> function : this.keyFieldGetterMap.values()) {
+                values.add(function.get());
+            }
+        }
+        return values;
+    }
+
     // Then finally traditional java stuff.
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(this.keyFieldGetterMap.values().stream()
-                                    .map(Supplier::get)
-                                    .collect(Collectors.toList()));
+        return Objects.hashCode(getFieldValues());
     }
 
     @SuppressWarnings("rawtypes")
@@ -151,12 +243,7 @@ public boolean equals(Object obj) {
             return false;
         }
         final AbstractImmutableData other = (AbstractImmutableData) obj;
-        return Objects.equals(this.keyFieldGetterMap.values().stream()
-                                 .map(Supplier::get)
-                                 .collect(Collectors.toList()),
-                              ((Map<Key<?>, Supplier<?>>) other.keyFieldGetterMap).values().stream()
-                                 .map(Supplier::get)
-                                 .collect(Collectors.toList()));
+        return Objects.equals(getFieldValues(), other.getFieldValues());
     }
 
     @Override
@@ -33,12 +33,14 @@
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
 /**
  * An abstract implementation of an {@link ImmutableDataManipulator} that
- * specificaly deals with a single value.
+ * specificaly deals with a single value. Instances with a small value space
+ * may be shared through {@link ImmutableDataCache}.
  *
  * @param <T> The type of value
  * @param <I> The type of immutable manipulator
@@ -54,7 +56,6 @@ protected AbstractImmutableSingleData(T value, Key<? extends BaseValue<T>> usedK
         super();
         this.value = checkNotNull(value);
         this.usedKey = checkNotNull(usedKey, "Hey, the key provided is null! Please make sure it is registered!");
-        registerGetters();
     }
 
     protected abstract ImmutableValue<?> getValueGetter();
@@ -66,11 +67,21 @@ protected final T getValue() {
     @Override
     public abstract M asMutable();
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <E> Optional<I> with(Key<? extends BaseValue<E>> key, E value) {
+        // Avoid creating an equal copy, this also keeps cached instances shared
+        if (checkNotNull(key) == this.usedKey && this.value.equals(value)) {
+            return Optional.of((I) this);
+        }
+        return super.with(key, value);
+    }
 
+
+    // The single key is checked directly, so nothing has to be registered
+    // for each created instance.
     @Override
     protected final void registerGetters() {
-        registerFieldGetter(this.usedKey, AbstractImmutableSingleData.this::getValue);
-        registerKeyValue(this.usedKey, AbstractImmutableSingleData.this::getValueGetter);
     }
 
     @SuppressWarnings("unchecked")
@@ -79,6 +90,12 @@ public <E> Optional<E> get(Key<? extends BaseValue<E>> key) {
         return checkNotNull(key).equals(this.usedKey) ? Optional.of((E) this.value) : Optional.empty();
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
+        return supports(key) ? Optional.of((V) checkNotNull(getValueGetter())) : Optional.empty();
+    }
+
     @Override
     public boolean supports(Key<?> key) {
         return checkNotNull(key) == this.usedKey;
@@ -89,4 +106,30 @@ public Set<Key<?>> getKeys() {
         return ImmutableSet.of(this.usedKey);
     }
 
+    @Override
+    public Set<ImmutableValue<?>> getValues() {
+        return ImmutableSet.of(checkNotNull(getValueGetter()));
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + Objects.hashCode(this.value);
+    }
+
+    @SuppressWarnings("rawtypes")
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        if (!super.equals(obj)) {
+            return false;
+        }
+        final AbstractImmutableSingleData other = (AbstractImmutableSingleData) obj;
+        return Objects.equals(this.value, other.value);
+    }
+
 }
@@ -0,0 +1,117 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.manipulator.immutable.common;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.data.manipulator.DataManipulator;
+import org.spongepowered.api.data.manipulator.DataManipulatorBuilder;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * A canonicalization cache for {@link AbstractImmutableSingleData} with a
+ * small value space, such as {@link AbstractImmutableBooleanData},
+ * {@link AbstractImmutableSingleEnumData},
+ * {@link AbstractImmutableSingleCatalogData} and
+ * {@link AbstractImmutableBoundedComparableData}. Equal immutable data then
+ * shares a single instance, which is meant to be used by
+ * {@link DataManipulator#asImmutable()}, {@code with} and
+ * {@link DataManipulatorBuilder}s:
+ *
+ * <pre>{@code
+ * public ImmutableFooData asImmutable() {
+ *     return ImmutableDataCache.get(ImmutableFooData.class, getValue(), ImmutableFooData::new);
+ * }
+ * }</pre>
+ *
+ * <p>Instances are keyed by their class and value only, so any other state
+ * (such as default values or bounds) has to be constant for the class.
+ * Every class caches at most {@link #MAX_ENTRIES} values, beyond that new
+ * instances are created.</p>
+ */
+public final class ImmutableDataCache {
+
+    /**
+     * The maximum amount of values cached for a single manipulator class.
+     */
+    public static final int MAX_ENTRIES = 1024;
+
+    private static final ClassValue<ConcurrentMap<Object, Object>> CACHES = new ClassValue<ConcurrentMap<Object, Object>>() {
+        @Override
+        protected ConcurrentMap<Object, Object> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Gets the canonical instance of the given manipulator class for the
+     * value, creating it with the constructor if it's not yet cached.
+     *
+     * @param type The immutable manipulator class
+     * @param value The value
+     * @param constructor The function to create the manipulator
+     * @param <T> The value type
+     * @param <I> The immutable manipulator type
+     * @return The canonical immutable manipulator
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, I extends AbstractImmutableSingleData<T, ?, ?>> I get(Class<I> type, T value, Function<? super T, ? extends I> constructor) {
+        checkNotNull(value, "value");
+        checkNotNull(constructor, "constructor");
+        final ConcurrentMap<Object, Object> cache = CACHES.get(checkNotNull(type, "type"));
+        Object cached = cache.get(value);
+        if (cached == null) {
+            final I created = checkNotNull(constructor.apply(value), "constructor returned null");
+            checkArgument(created.getClass() == type, "The constructor created a %s instead of a %s", created.getClass(), type);
+            if (cache.size() >= MAX_ENTRIES) {
+                return created;
+            }
+            cached = cache.putIfAbsent(value, created);
+            if (cached == null) {
+                return created;
+            }
+        }
+        return (I) cached;
+    }
+
+    /**
+     * Gets whether the given manipulator is the canonical instance for its
+     * class and value.
+     *
+     * @param manipulator The immutable manipulator
+     * @return True if the manipulator is cached
+     */
+    public static boolean isCached(AbstractImmutableSingleData<?, ?, ?> manipulator) {
+        return CACHES.get(manipulator.getClass()).get(manipulator.getValue()) == manipulator;
+    }
+
+    private ImmutableDataCache() {
+    }
+
+}
@@ -34,28 +34,52 @@
 import org.spongepowered.api.data.key.Key;
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
+import org.spongepowered.api.data.manipulator.KeyTable;
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.api.data.value.mutable.Value;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
 
 /**
  * A base abstract layer for implementing a {@link DataManipulator}. This
  * provides all the otherwise "redundant" code dealing with various methods
  * such as {@link #get(Key)} or {@link #supports(Key)} etc. The root of this
  * implementation relies on a pseudo registration of
- * {@link #registerFieldGetter(Key, Supplier)},
- * {@link #registerFieldSetter(Key, Consumer)},
- * and {@link #registerKeyValue(Key, Supplier)} of which supply and consume
- * values otherwise accessible by fields.
+ * {@link #registerFieldGetter(Class, Key, Function)},
+ * {@link #registerFieldSetter(Class, Key, BiConsumer)},
+ * and {@link #registerKeyValue(Class, Key, Function)} of which supply and
+ * consume values otherwise accessible by fields.
+ *
+ * <p>The class level registrations are meant to be done once in a static
+ * initializer, they are stored in a table shared by every instance of the
+ * manipulator class and indexed by {@link Key#getOrdinal()}, such that
+ * creating a manipulator allocates nothing beyond its own fields. A class
+ * inherits the registrations of its superclasses, and a key is supported
+ * once both its field getter and setter are registered:</p>
+ *
+ * <pre>{@code
+ * static {
+ *     registerFieldGetter(FooData.class, Keys.FOO, FooData::getFoo);
+ *     registerFieldSetter(FooData.class, Keys.FOO, FooData::setFoo);
+ *     registerKeyValue(FooData.class, Keys.FOO, FooData::foo);
+ * }
+ * }</pre>
+ *
+ * <p>The instance bound {@link #registerFieldGetter(Key, Supplier)},
+ * {@link #registerFieldSetter(Key, Consumer)} and
+ * {@link #registerKeyValue(Key, Supplier)} are still supported.</p>
  *
  * @param <M> The mutable data manipulator type
  * @param <I> The immutable data manipulator type
@@ -63,6 +87,7 @@
 @SuppressWarnings("unchecked")
 public abstract class AbstractData<M extends DataManipulator<M, I>, I extends ImmutableDataManipulator<I, M>> implements DataManipulator<M, I> {
 
+    private static final KeyTable.Registry TABLES = KeyTable.registry(AbstractData.class);
 
     // Ok, so, you're probably asking "Why the hell are you doing this type of hackery?"
     // Answer: Because I'd rather have these abstract functions (read method references)
@@ -77,13 +102,57 @@
     // The largest issue was implementation. Since most fields are simple to get and
     // set, other values, such as ItemStacks require a bit of finer tuning.
     //
-    private final Map<Key<?>, Supplier<Value<?>>> keyValueMap = Maps.newHashMap();
-    private final Map<Key<?>, Supplier<?>> keyFieldGetterMap = Maps.newHashMap();
-    private final Map<Key<?>, Consumer<Object>> keyFieldSetterMap = Maps.newHashMap();
+    private final KeyTable table = TABLES.get(getClass());
+    //lazy loaded, only used by the instance bound registrations
+    @Nullable private Map<Key<?>, Supplier<Value<?>>> keyValueMap;
+    @Nullable private Map<Key<?>, Supplier<?>> keyFieldGetterMap;
+    @Nullable private Map<Key<?>, Consumer<Object>> keyFieldSetterMap;
 
     protected AbstractData() {
     }
 
+    /**
+     * Class level registration method for the keys to value return methods,
+     * shared by all instances of the given manipulator class.
+     *
+     * @param type The manipulator class
+     * @param key The key for the value return type
+     * @param function The function for getting the value
+     * @param <D> The manipulator type
+     */
+    protected static <D extends AbstractData<?, ?>> void registerKeyValue(Class<D> type, Key<?> key,
+            Function<? super D, ? extends Value<?>> function) {
+        TABLES.register(type, key, null, null, checkNotNull(function, "function"));
+    }
+
+    /**
+     * Class level registration method for the keys to field getter methods,
+     * shared by all instances of the given manipulator class.
+     *
+     * @param type The manipulator class
+     * @param key The key for the value return type
+     * @param function The function for getting the field
+     * @param <D> The manipulator type
+     */
+    protected static <D extends AbstractData<?, ?>> void registerFieldGetter(Class<D> type, Key<?> key, Function<? super D, ?> function) {
+        TABLES.register(type, key, checkNotNull(function, "function"), null, null);
+    }
+
+    /**
+     * Class level registration method for the keys to field setter methods,
+     * shared by all instances of the given manipulator class.
+     *
+     * @param type The manipulator class
+     * @param key The key for the value return type
+     * @param function The function for setting the field
+     * @param <D> The manipulator type
+     * @param <E> The element type of the key
+     */
+    protected static <D extends AbstractData<?, ?>, E> void registerFieldSetter(Class<D> type, Key<? extends BaseValue<E>> key,
+            BiConsumer<? super D, E> function) {
+        TABLES.register(type, key, null, checkNotNull(function, "function"), null);
+    }
+
     /**
      * Simple registration method for the keys to value return methods.
      *
@@ -94,6 +163,9 @@ protected AbstractData() {
      * @param function The function for getting the value
      */
     protected final void registerKeyValue(Key<?> key, Supplier<Value<?>> function) {
+        if (this.keyValueMap == null) {
+            this.keyValueMap = Maps.newLinkedHashMap();
+        }
         this.keyValueMap.put(checkNotNull(key), checkNotNull(function));
     }
 
@@ -107,6 +179,9 @@ protected final void registerKeyValue(Key<?> key, Supplier<Value<?>> function) {
      * @param function The function for getting the field
      */
     protected final void registerFieldGetter(Key<?> key, Supplier<?> function) {
+        if (this.keyFieldGetterMap == null) {
+            this.keyFieldGetterMap = Maps.newLinkedHashMap();
+        }
         this.keyFieldGetterMap.put(checkNotNull(key, "The key cannot be null"), checkNotNull(function, "The function cannot be null"));
     }
 
@@ -121,30 +196,37 @@ protected final void registerFieldGetter(Key<?> key, Supplier<?> function) {
      */
     @SuppressWarnings("rawtypes")
     protected final <E> void registerFieldSetter(Key<? extends BaseValue<E>> key, Consumer<E> function) {
+        if (this.keyFieldSetterMap == null) {
+            this.keyFieldSetterMap = Maps.newLinkedHashMap();
+        }
         this.keyFieldSetterMap.put(checkNotNull(key), checkNotNull((Consumer) function));
     }
 
     /**
-     * A required registration method for registering the various fields and
-     * value getters. It's suggested that if multiple fields are used, each
-     * field can be represented as a {@link Value} such that there is an
-     * associated {@link Key} to "get" that field value.
+     * A registration method for registering the various fields and value
+     * getters bound to this instance. It's suggested that if multiple fields
+     * are used, each field can be represented as a {@link Value} such that
+     * there is an associated {@link Key} to "get" that field value.
+     *
+     * <p>Manipulators using the class level registrations do not need to
+     * implement this.</p>
      */
-    protected abstract void registerGettersAndSetters();
+    protected void registerGettersAndSetters() {
+    }
 
     // Beyond this point is all implementation with the getter/setter functions!
 
     @Override
     public <E> M set(Key<? extends BaseValue<E>> key, E value) {
         checkArgument(supports(key), "This data manipulator doesn't support the following key: " + key.toString());
-        this.keyFieldSetterMap.get(key).accept(value);
+        setField(key, value);
         return (M) this;
     }
 
     @Override
     public <E> M transform(Key<? extends BaseValue<E>> key, Function<E, E> function) {
         checkArgument(supports(key));
-        this.keyFieldSetterMap.get(key).accept(checkNotNull(function.apply((E) this.keyFieldGetterMap.get(key).get())));
+        setField(key, checkNotNull(function.apply((E) getField(key))));
         return (M) this;
     }
 
@@ -153,12 +235,16 @@ public <E> Optional<E> get(Key<? extends BaseValue<E>> key) {
         if (!supports(key)) {
             return Optional.empty();
         }
-        return Optional.of((E) this.keyFieldGetterMap.get(key).get());
+        return Optional.of((E) getField(key));
     }
 
     @Override
     public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
-        if (!this.keyValueMap.containsKey(key)) {
+        final KeyTable.Entry entry = this.table.get(checkNotNull(key));
+        if (entry != null && entry.getValue() != null) {
+            return Optional.of((V) checkNotNull(entry.getValue().apply(this)));
+        }
+        if (this.keyValueMap == null || !this.keyValueMap.containsKey(key)) {
             return Optional.empty();
         }
         return Optional.of((V) checkNotNull(this.keyValueMap.get(key).get()));
@@ -166,26 +252,89 @@ public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
 
     @Override
     public boolean supports(Key<?> key) {
-        return this.keyFieldSetterMap.containsKey(checkNotNull(key));
+        final KeyTable.Entry entry = this.table.get(checkNotNull(key));
+        return hasGetter(entry, key) && hasSetter(entry, key);
     }
 
     @Override
     public Set<Key<?>> getKeys() {
-        return ImmutableSet.copyOf(this.keyFieldSetterMap.keySet());
+        final ImmutableSet.Builder<Key<?>> builder = ImmutableSet.builder();
+        for (KeyTable.Entry entry : this.table.getEntries()) {
+            if (hasGetter(entry, entry.getKey()) && hasSetter(entry, entry.getKey())) {
+                builder.add(entry.getKey());
+            }
+        }
+        if (this.keyFieldSetterMap != null) {
+            for (Key<?> key : this.keyFieldSetterMap.keySet()) {
+                if (hasGetter(this.table.get(key), key)) {
+                    builder.add(key);
+                }
+            }
+        }
+        return builder.build();
     }
 
     @Override
     public Set<ImmutableValue<?>> getValues() {
-        ImmutableSet.Builder<ImmutableValue<?>> builder = ImmutableSet.builder();
-        for (Supplier<Value<?>> function : this.keyValueMap.values()) {
-            builder.add(checkNotNull(function.get()).asImmutable());
+        final ImmutableSet.Builder<ImmutableValue<?>> builder = ImmutableSet.builder();
+        for (KeyTable.Entry entry : this.table.getEntries()) {
+            if (entry.getValue() != null) {
+                builder.add(checkNotNull((Value<?>) entry.getValue().apply(this)).asImmutable());
+            }
+        }
+        if (this.keyValueMap != null) {
+            for (Supplier<Value<?>> function : this.keyValueMap.values()) {
+                builder.add(checkNotNull(function.get()).asImmutable());
+            }
         }
         return builder.build();
     }
 
+    // A key is only supported if both its field getter and setter are registered
+    private boolean hasGetter(@Nullable KeyTable.Entry entry, Key<?> key) {
+        return entry != null && entry.getGetter() != null || this.keyFieldGetterMap != null && this.keyFieldGetterMap.containsKey(key);
+    }
+
+    private boolean hasSetter(@Nullable KeyTable.Entry entry, Key<?> key) {
+        return entry != null && entry.getSetter() != null || this.keyFieldSetterMap != null && this.keyFieldSetterMap.containsKey(key);
+    }
+
+    @Nullable
+    private Object getField(Key<?> key) {
+        final KeyTable.Entry entry = this.table.get(key);
+        if (entry != null && entry.getGetter() != null) {
+            return entry.getGetter().apply(this);
+        }
+        return this.keyFieldGetterMap == null ? null : this.keyFieldGetterMap.get(key).get();
+    }
+
+    private void setField(Key<?> key, Object value) {
+        final KeyTable.Entry entry = this.table.get(key);
+        if (entry != null && entry.getSetter() != null) {
+            entry.getSetter().accept(this, value);
+        } else {
+            this.keyFieldSetterMap.get(key).accept(value);
+        }
+    }
+
+    private List<Object> getFieldValues() {
+        final List<Object> values = new ArrayList<>();
+        for (KeyTable.Entry entry : this.table.getEntries()) {
+            if (entry.getGetter() != null) {
+                values.add(entry.getGetter().apply(this));
+            }
+        }
+        if (this.keyFieldGetterMap != null) {
+            for (Supplier<?> function : this.keyFieldGetterMap.values()) {
+                values.add(function.get());
+            }
+        }
+        return values;
+    }
+
     @Override
     public int hashCode() {
-        return Objects.hash(this.keyFieldGetterMap, this.keyFieldSetterMap, this.keyValueMap);
+        return Objects.hashCode(getFieldValues());
     }
 
     @SuppressWarnings("rawtypes")
@@ -198,12 +347,7 @@ public boolean equals(Object obj) {
             return false;
         }
         final AbstractData other = (AbstractData) obj;
-        return Objects.equals(this.keyFieldGetterMap.values().stream()
-                                 .map(Supplier::get)
-                                 .collect(Collectors.toList()),
-                             ((Map<Key<?>, Supplier<?>>) other.keyFieldGetterMap).values().stream()
-                                 .map(Supplier::get)
-                                 .collect(Collectors.toList()));
+        return Objects.equals(getFieldValues(), other.getFieldValues());
     }
 
     @Override
@@ -24,18 +24,21 @@
  */
 package org.spongepowered.api.data.manipulator.mutable.common;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableSet;
 import org.spongepowered.api.data.key.Key;
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.value.BaseValue;
+import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.api.data.value.mutable.Value;
 
 import java.util.Optional;
-import java.util.function.Consumer;
-import java.util.function.Supplier;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * An abstraction for the various {@link DataManipulator}s that handle a single
@@ -58,14 +61,12 @@
     protected AbstractSingleData(T value, Key<? extends BaseValue<T>> usedKey) {
         this.value = checkNotNull(value);
         this.usedKey = checkNotNull(usedKey);
-        registerGettersAndSetters();
     }
 
+    // The single key is checked directly, so nothing has to be registered
+    // for each created instance.
     @Override
     protected final void registerGettersAndSetters() {
-        registerFieldGetter(this.usedKey, AbstractSingleData.this::getValue);
-        registerFieldSetter(this.usedKey, this::setValue);
-        registerKeyValue(this.usedKey, AbstractSingleData.this::getValueGetter);
     }
 
     /**
@@ -76,11 +77,28 @@ protected final void registerGettersAndSetters() {
      */
     protected abstract Value<?> getValueGetter();
 
+    @Override
+    public <E> M set(Key<? extends BaseValue<E>> key, E value) {
+        checkArgument(supports(key), "This data manipulator doesn't support the following key: " + key.toString());
+        return setValue((T) value);
+    }
+
+    @Override
+    public <E> M transform(Key<? extends BaseValue<E>> key, Function<E, E> function) {
+        checkArgument(supports(key));
+        return setValue((T) checkNotNull(function.apply((E) getValue())));
+    }
+
     @Override
     public <E> Optional<E> get(Key<? extends BaseValue<E>> key) {
         // we can delegate this since we have a direct value check as this is
         // a Single value.
-        return key == this.usedKey ? Optional.of((E) this.value) : super.get(key);
+        return supports(key) ? Optional.of((E) getValue()) : Optional.empty();
+    }
+
+    @Override
+    public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
+        return supports(key) ? Optional.of((V) checkNotNull(getValueGetter())) : Optional.empty();
     }
 
     @Override
@@ -88,13 +106,22 @@ public boolean supports(Key<?> key) {
         return checkNotNull(key) == this.usedKey;
     }
 
+    @Override
+    public Set<Key<?>> getKeys() {
+        return ImmutableSet.of(this.usedKey);
+    }
+
+    @Override
+    public Set<ImmutableValue<?>> getValues() {
+        return ImmutableSet.of(checkNotNull(getValueGetter()).asImmutable());
+    }
+
     // We have to have this abstract to properly override for generics.
     @Override
     public abstract I asImmutable();
 
     /**
-     * A simple getter for usage with a {@link Supplier} for
-     * the {@link #registerFieldGetter(Key, Supplier)} method.
+     * Gets the value held by this manipulator.
      *
      * @return The value
      */
@@ -103,8 +130,7 @@ protected T getValue() {
     }
 
     /**
-     * A simple setter for usage with a {@link Consumer} for
-     * the {@link #registerFieldSetter(Key, Consumer)} method.
+     * Sets the value held by this manipulator.
      *
      * @param value The value
      * @return This manipulator
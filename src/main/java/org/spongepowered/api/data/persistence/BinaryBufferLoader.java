@@ -0,0 +1,345 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.BOOLEAN;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.BYTE;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.BYTE_ARRAY;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.CHAR;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.DOUBLE;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.DOUBLE_LIST;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.END;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.FLOAT;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.INT;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.INT_ARRAY;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.INT_LIST;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.LIST;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.LONG;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.LONG_ARRAY;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.LONG_LIST;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.SHORT;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.STRING;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.VIEW;
+
+import org.spongepowered.api.data.IndexedDataContainer;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Loads a view of the {@link BinaryDataFormat} from a {@link ByteBuffer} for
+ * a {@link IndexedDataContainer#lazy lazy container}. Nested views are
+ * skipped using their length and only loaded when they are accessed.
+ */
+final class BinaryBufferLoader implements IndexedDataContainer.Loader {
+
+    /**
+     * Creates a lazy container over the given buffer, starting at its
+     * position.
+     *
+     * @param buffer The buffer
+     * @return The container
+     */
+    static IndexedDataContainer load(ByteBuffer buffer) {
+        final ByteBuffer data = buffer.slice();
+        if (!data.hasRemaining() || data.get(0) != BinaryDataFormat.VERSION) {
+            throw new InvalidDataFormatException("Unsupported binary data version");
+        }
+        return IndexedDataContainer.lazy(new BinaryBufferLoader(new Strings(data), 1, 0));
+    }
+
+    private final Strings strings;
+    private final int start;
+    private final int firstString;
+
+    /**
+     * The position of the next byte to read while loading.
+     */
+    private int position;
+
+    /**
+     * The index of the next string added to the string table while loading.
+     */
+    private int nextString;
+
+    private BinaryBufferLoader(Strings strings, int start, int firstString) {
+        this.strings = strings;
+        this.start = start;
+        this.firstString = firstString;
+    }
+
+    @Override
+    public void load(IndexedDataContainer.Entries entries) {
+        // A new loader so this one can be reused by copies of the container
+        final BinaryBufferLoader loader = new BinaryBufferLoader(this.strings, this.start, this.firstString);
+        loader.position = this.start;
+        loader.nextString = this.firstString;
+        try {
+            for (byte type = loader.readByte(); type != END; type = loader.readByte()) {
+                final String key = loader.readString();
+                if (type == VIEW) {
+                    entries.setLazy(key, loader.skipView());
+                } else {
+                    entries.set(key, loader.readValue(type));
+                }
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new InvalidDataFormatException("Unexpected end of binary data", e);
+        }
+    }
+
+    /**
+     * Skips the view at the current position, returning a loader for it.
+     */
+    private BinaryBufferLoader skipView() {
+        final int length = readVarInt();
+        final int strings = readVarInt();
+        final BinaryBufferLoader loader = new BinaryBufferLoader(this.strings, this.position, this.nextString);
+        if (strings > 0) {
+            this.strings.defer(this.nextString, strings, this.position);
+        }
+        this.position += length;
+        this.nextString += strings;
+        return loader;
+    }
+
+    /**
+     * Reads every entry of the view at the current position to add its
+     * strings to the string table.
+     */
+    private void scanView() {
+        for (byte type = readByte(); type != END; type = readByte()) {
+            readString();
+            scanValue(type);
+        }
+    }
+
+    private void scanValue(byte type) {
+        if (type == VIEW) {
+            readVarInt();
+            readVarInt();
+            scanView();
+        } else if (type == LIST) {
+            final int size = readVarInt();
+            for (int i = 0; i < size; i++) {
+                scanValue(readByte());
+            }
+        } else {
+            readValue(type);
+        }
+    }
+
+    private Object readValue(byte type) {
+        final ByteBuffer data = this.strings.data;
+        switch (type) {
+            case VIEW:
+                return IndexedDataContainer.lazy(skipView());
+            case BOOLEAN:
+                return readByte() != 0;
+            case BYTE:
+                return readByte();
+            case SHORT:
+                return (short) unZigZag(readVarInt());
+            case CHAR:
+                return (char) readVarInt();
+            case INT:
+                return unZigZag(readVarInt());
+            case LONG:
+                return unZigZag(readVarLong());
+            case FLOAT: {
+                final float value = data.getFloat(this.position);
+                this.position += 4;
+                return value;
+            }
+            case DOUBLE:
+                return readDouble();
+            case STRING:
+                return readString();
+            case LIST: {
+                final int size = readVarInt();
+                final List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(readByte()));
+                }
+                return list;
+            }
+            case INT_LIST:
+                return Arrays.asList(Arrays.stream(readIntArray()).boxed().toArray(Integer[]::new));
+            case LONG_LIST:
+                return Arrays.asList(Arrays.stream(readLongArray()).boxed().toArray(Long[]::new));
+            case DOUBLE_LIST: {
+                final Double[] array = new Double[readVarInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = readDouble();
+                }
+                return Arrays.asList(array);
+            }
+            case BYTE_ARRAY:
+                return readBytes(readVarInt());
+            case INT_ARRAY:
+                return readIntArray();
+            case LONG_ARRAY:
+                return readLongArray();
+            default:
+                throw new InvalidDataFormatException("Unknown value type: " + type);
+        }
+    }
+
+    private int[] readIntArray() {
+        final int[] array = new int[readVarInt()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = unZigZag(readVarInt());
+        }
+        return array;
+    }
+
+    private long[] readLongArray() {
+        final long[] array = new long[readVarInt()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = unZigZag(readVarLong());
+        }
+        return array;
+    }
+
+    private String readString() {
+        final int index = readVarInt();
+        if (index != 0) {
+            return this.strings.get(index - 1);
+        }
+        final String string = new String(readBytes(readVarInt()), StandardCharsets.UTF_8);
+        this.strings.set(this.nextString++, string);
+        return string;
+    }
+
+    private byte[] readBytes(int length) {
+        final byte[] bytes = new byte[length];
+        final ByteBuffer data = this.strings.data.duplicate();
+        data.position(this.position);
+        data.get(bytes);
+        this.position += length;
+        return bytes;
+    }
+
+    private byte readByte() {
+        return this.strings.data.get(this.position++);
+    }
+
+    private double readDouble() {
+        final double value = this.strings.data.getDouble(this.position);
+        this.position += 8;
+        return value;
+    }
+
+    private int readVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            final byte b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new InvalidDataFormatException("Variable length int is too long");
+    }
+
+    private long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            final byte b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new InvalidDataFormatException("Variable length long is too long");
+    }
+
+    private static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * The buffer and its string table, shared by all loaders of a buffer.
+     * Strings added by views that weren't loaded are read when they are
+     * first referred to.
+     */
+    private static final class Strings {
+
+        final ByteBuffer data;
+        private String[] strings = new String[16];
+
+        /**
+         * The index of the first string added by every skipped view, mapped
+         * to the number of strings it adds and its position.
+         */
+        private final TreeMap<Integer, int[]> deferred = new TreeMap<>();
+
+        Strings(ByteBuffer data) {
+            this.data = data;
+        }
+
+        void set(int index, String string) {
+            if (index >= this.strings.length) {
+                this.strings = Arrays.copyOf(this.strings, Math.max(index + 1, this.strings.length * 2));
+            }
+            this.strings[index] = string;
+        }
+
+        void defer(int firstString, int count, int position) {
+            this.deferred.put(firstString, new int[] {count, position});
+        }
+
+        String get(int index) {
+            if (index < this.strings.length && this.strings[index] != null) {
+                return this.strings[index];
+            }
+            final Map.Entry<Integer, int[]> entry = this.deferred.floorEntry(index);
+            if (entry == null || index >= entry.getKey() + entry.getValue()[0]) {
+                throw new InvalidDataFormatException("Unknown string index: " + index);
+            }
+            this.deferred.remove(entry.getKey());
+            final BinaryBufferLoader scanner = new BinaryBufferLoader(this, 0, 0);
+            scanner.position = entry.getValue()[1];
+            scanner.nextString = entry.getKey();
+            scanner.scanView();
+            if (index >= this.strings.length || this.strings[index] == null) {
+                throw new InvalidDataFormatException("Unknown string index: " + index);
+            }
+            return this.strings[index];
+        }
+
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+/**
+ * A compact binary {@link DataFormat}, registered as
+ * {@link DataFormats#BINARY}.
+ *
+ * <p>Integers and all lengths are written as variable length integers, so
+ * small values take a single byte. Every distinct string, key or value, is
+ * written once and referred to by its index in a string table afterwards.
+ * Lists only containing {@link Integer}s, {@link Long}s or {@link Double}s
+ * are written as untagged arrays.</p>
+ *
+ * <p>Views are written as tagged entries followed by an end tag, prefixed
+ * with their length in bytes and the number of strings they add to the
+ * string table. They can be written and read entry by entry with
+ * {@link #createWriter} and {@link #createReader}, and {@link #view} only
+ * decodes the views that are accessed. The streams are not buffered by this
+ * format.</p>
+ */
+public final class BinaryDataFormat implements DataFormat {
+
+    static final int VERSION = 1;
+
+    static final byte END = 0;
+    static final byte VIEW = 1;
+    static final byte BOOLEAN = 2;
+    static final byte BYTE = 3;
+    static final byte SHORT = 4;
+    static final byte CHAR = 5;
+    static final byte INT = 6;
+    static final byte LONG = 7;
+    static final byte FLOAT = 8;
+    static final byte DOUBLE = 9;
+    static final byte STRING = 10;
+    static final byte LIST = 11;
+    static final byte INT_LIST = 12;
+    static final byte LONG_LIST = 13;
+    static final byte DOUBLE_LIST = 14;
+    static final byte BYTE_ARRAY = 15;
+    static final byte INT_ARRAY = 16;
+    static final byte LONG_ARRAY = 17;
+
+    @Override
+    public String getId() {
+        return "sponge:binary";
+    }
+
+    @Override
+    public String getName() {
+        return "Binary";
+    }
+
+    @Override
+    public DataContainer readFrom(InputStream input) throws InvalidDataFormatException, IOException {
+        return new BinaryDataReader(checkNotNull(input, "input")).readContainer();
+    }
+
+    @Override
+    public void writeTo(OutputStream output, DataView data) throws IOException {
+        final BinaryDataWriter writer = new BinaryDataWriter(checkNotNull(output, "output"));
+        for (Map.Entry<DataQuery, Object> entry : checkNotNull(data, "data").getValues(false).entrySet()) {
+            writer.write(entry.getKey().asString('.'), entry.getValue());
+        }
+        writer.finish();
+    }
+
+    @Override
+    public DataContainer view(ByteBuffer buffer) throws InvalidDataFormatException {
+        return BinaryBufferLoader.load(checkNotNull(buffer, "buffer"));
+    }
+
+    @Override
+    public DataReader createReader(InputStream input) throws InvalidDataFormatException, IOException {
+        return new BinaryDataReader(checkNotNull(input, "input"));
+    }
+
+    @Override
+    public DataWriter createWriter(OutputStream output) throws IOException {
+        return new BinaryDataWriter(checkNotNull(output, "output"));
+    }
+
+}
@@ -0,0 +1,428 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static com.google.common.base.Preconditions.checkState;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.BOOLEAN;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.BYTE;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.BYTE_ARRAY;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.CHAR;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.DOUBLE;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.DOUBLE_LIST;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.END;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.FLOAT;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.INT;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.INT_ARRAY;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.INT_LIST;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.LIST;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.LONG;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.LONG_ARRAY;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.LONG_LIST;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.SHORT;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.STRING;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.VIEW;
+
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.IndexedDataContainer;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the {@link BinaryDataFormat}.
+ */
+final class BinaryDataReader implements DataReader {
+
+    private static final int NONE = -1;
+
+    private final DataInputStream input;
+
+    /**
+     * The string table, strings that were only skipped are kept as their
+     * undecoded bytes.
+     */
+    private final List<Object> strings = new ArrayList<>();
+
+    /**
+     * The type of the next entry if it was already read by
+     * {@link #hasNext()}.
+     */
+    private int nextType = NONE;
+
+    /**
+     * The type of the current entry if its value wasn't consumed yet.
+     */
+    private int currentType = NONE;
+    private int depth;
+
+    BinaryDataReader(InputStream input) throws IOException {
+        this.input = new DataInputStream(input);
+        final int version = this.input.read();
+        if (version != BinaryDataFormat.VERSION) {
+            throw new InvalidDataFormatException("Unsupported binary data version: " + version);
+        }
+    }
+
+    /**
+     * Reads the remaining entries of the root view into a new container.
+     *
+     * @return The container
+     * @throws IOException If there was an error reading from the stream
+     */
+    DataContainer readContainer() throws IOException {
+        final DataContainer container = new IndexedDataContainer();
+        readView(container);
+        return container;
+    }
+
+    private void readView(DataView view) throws IOException {
+        while (hasNext()) {
+            final DataQuery key = DataQuery.of(nextKey());
+            final int type = this.currentType;
+            this.currentType = NONE;
+            if (type == VIEW) {
+                skipViewHeader();
+                readView(view.createView(key));
+            } else {
+                view.set(key, readValue(type));
+            }
+        }
+        // Consume the end tag
+        this.nextType = NONE;
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        if (this.currentType != NONE) {
+            skipValue();
+        }
+        if (this.nextType == NONE) {
+            this.nextType = this.input.readByte();
+        }
+        return this.nextType != END;
+    }
+
+    @Override
+    public String nextKey() throws IOException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        this.currentType = this.nextType;
+        this.nextType = NONE;
+        return readString();
+    }
+
+    @Override
+    public boolean isView() {
+        checkState(this.currentType != NONE, "There is no current entry");
+        return this.currentType == VIEW;
+    }
+
+    @Override
+    public Object nextValue() throws IOException {
+        checkState(this.currentType != NONE, "There is no current entry");
+        final int type = this.currentType;
+        this.currentType = NONE;
+        return readValue(type);
+    }
+
+    @Override
+    public void beginView() throws IOException {
+        checkState(isView(), "The current value is not a view");
+        this.currentType = NONE;
+        skipViewHeader();
+        this.depth++;
+    }
+
+    private void skipViewHeader() throws IOException {
+        readVarInt();
+        readVarInt();
+    }
+
+    @Override
+    public void endView() throws IOException {
+        checkState(this.depth > 0, "Can't end the root view");
+        while (hasNext()) {
+            final int type = this.nextType;
+            this.nextType = NONE;
+            skipString();
+            skip(type);
+        }
+        this.nextType = NONE;
+        this.depth--;
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        checkState(this.currentType != NONE, "There is no current entry");
+        final int type = this.currentType;
+        this.currentType = NONE;
+        skip(type);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.input.close();
+    }
+
+    private Object readValue(int type) throws IOException {
+        switch (type) {
+            case VIEW:
+                skipViewHeader();
+                final DataContainer container = new IndexedDataContainer();
+                readView(container);
+                return container;
+            case BOOLEAN:
+                return this.input.readBoolean();
+            case BYTE:
+                return this.input.readByte();
+            case SHORT:
+                return (short) unZigZag(readVarInt());
+            case CHAR:
+                return (char) readVarInt();
+            case INT:
+                return unZigZag(readVarInt());
+            case LONG:
+                return unZigZag(readVarLong());
+            case FLOAT:
+                return this.input.readFloat();
+            case DOUBLE:
+                return this.input.readDouble();
+            case STRING:
+                return readString();
+            case LIST: {
+                final int size = readVarInt();
+                final List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(this.input.readByte()));
+                }
+                return list;
+            }
+            case INT_LIST: {
+                final int size = readVarInt();
+                final List<Integer> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(unZigZag(readVarInt()));
+                }
+                return list;
+            }
+            case LONG_LIST: {
+                final int size = readVarInt();
+                final List<Long> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(unZigZag(readVarLong()));
+                }
+                return list;
+            }
+            case DOUBLE_LIST: {
+                final int size = readVarInt();
+                final List<Double> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(this.input.readDouble());
+                }
+                return list;
+            }
+            case BYTE_ARRAY: {
+                final byte[] array = new byte[readVarInt()];
+                this.input.readFully(array);
+                return array;
+            }
+            case INT_ARRAY: {
+                final int[] array = new int[readVarInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = unZigZag(readVarInt());
+                }
+                return array;
+            }
+            case LONG_ARRAY: {
+                final long[] array = new long[readVarInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = unZigZag(readVarLong());
+                }
+                return array;
+            }
+            default:
+                throw new InvalidDataFormatException("Unknown value type: " + type);
+        }
+    }
+
+    private void skip(int type) throws IOException {
+        switch (type) {
+            case VIEW: {
+                final int length = readVarInt();
+                if (readVarInt() == 0) {
+                    skipBytes(length);
+                    break;
+                }
+                // The strings added by the view have to be read
+                for (int entryType = this.input.readByte(); entryType != END; entryType = this.input.readByte()) {
+                    skipString();
+                    skip(entryType);
+                }
+                break;
+            }
+            case BOOLEAN:
+            case BYTE:
+                skipBytes(1);
+                break;
+            case SHORT:
+            case CHAR:
+            case INT:
+                readVarInt();
+                break;
+            case LONG:
+                readVarLong();
+                break;
+            case FLOAT:
+                skipBytes(4);
+                break;
+            case DOUBLE:
+                skipBytes(8);
+                break;
+            case STRING:
+                skipString();
+                break;
+            case LIST: {
+                final int size = readVarInt();
+                for (int i = 0; i < size; i++) {
+                    skip(this.input.readByte());
+                }
+                break;
+            }
+            case INT_LIST:
+            case INT_ARRAY: {
+                final int size = readVarInt();
+                for (int i = 0; i < size; i++) {
+                    readVarInt();
+                }
+                break;
+            }
+            case LONG_LIST:
+            case LONG_ARRAY: {
+                final int size = readVarInt();
+                for (int i = 0; i < size; i++) {
+                    readVarLong();
+                }
+                break;
+            }
+            case DOUBLE_LIST:
+                skipBytes(8 * readVarInt());
+                break;
+            case BYTE_ARRAY:
+                skipBytes(readVarInt());
+                break;
+            default:
+                throw new InvalidDataFormatException("Unknown value type: " + type);
+        }
+    }
+
+    private void skipBytes(int count) throws IOException {
+        while (count > 0) {
+            final int skipped = this.input.skipBytes(count);
+            if (skipped <= 0) {
+                throw new EOFException();
+            }
+            count -= skipped;
+        }
+    }
+
+    private String readString() throws IOException {
+        final int index = readVarInt();
+        if (index == 0) {
+            final String string = new String(readStringBytes(), StandardCharsets.UTF_8);
+            this.strings.add(string);
+            return string;
+        }
+        if (index > this.strings.size()) {
+            throw new InvalidDataFormatException("Unknown string index: " + (index - 1));
+        }
+        final Object string = this.strings.get(index - 1);
+        if (string instanceof String) {
+            return (String) string;
+        }
+        final String decoded = new String((byte[]) string, StandardCharsets.UTF_8);
+        this.strings.set(index - 1, decoded);
+        return decoded;
+    }
+
+    private void skipString() throws IOException {
+        if (readVarInt() == 0) {
+            this.strings.add(readStringBytes());
+        }
+    }
+
+    private byte[] readStringBytes() throws IOException {
+        final byte[] bytes = new byte[readVarInt()];
+        this.input.readFully(bytes);
+        return bytes;
+    }
+
+    private int readVarInt() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            final int b = this.input.read();
+            if (b < 0) {
+                throw new EOFException();
+            }
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new InvalidDataFormatException("Variable length int is too long");
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            final int b = this.input.read();
+            if (b < 0) {
+                throw new EOFException();
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new InvalidDataFormatException("Variable length long is too long");
+    }
+
+    private static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+}
@@ -0,0 +1,442 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.BOOLEAN;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.BYTE;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.BYTE_ARRAY;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.CHAR;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.DOUBLE;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.DOUBLE_LIST;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.END;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.FLOAT;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.INT;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.INT_ARRAY;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.INT_LIST;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.LIST;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.LONG;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.LONG_ARRAY;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.LONG_LIST;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.SHORT;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.STRING;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.VIEW;
+
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the {@link BinaryDataFormat}.
+ */
+final class BinaryDataWriter implements DataWriter {
+
+    /**
+     * The maximum size of the header of a view, its length and the number
+     * of strings it adds as variable length integers.
+     */
+    private static final int HEADER_SIZE = 10;
+
+    private final DataOutputStream stream;
+
+    /**
+     * The views nested in a view of the root view are written to a single
+     * buffer, leaving space for their header which is filled in when they
+     * end. The unused header space is left out when the outermost view ends
+     * and the buffer is written to the stream.
+     */
+    private final Buffer buffer = new Buffer();
+
+    /**
+     * The stream of the current view, the buffer if any view is open.
+     */
+    private DataOutputStream output;
+
+    private final Deque<View> views = new ArrayDeque<>();
+
+    /**
+     * All views in the buffer, in the order of their headers.
+     */
+    private final List<View> bufferedViews = new ArrayList<>();
+
+    private final Map<String, Integer> strings = new HashMap<>();
+    private boolean finished;
+
+    BinaryDataWriter(OutputStream output) throws IOException {
+        this.stream = new DataOutputStream(output);
+        this.stream.write(BinaryDataFormat.VERSION);
+        this.output = this.stream;
+    }
+
+    @Override
+    public DataWriter write(String key, Object value) throws IOException {
+        checkNotNull(key, "key");
+        checkNotNull(value, "value");
+        checkState(!this.finished, "The writer is closed");
+        final byte type = typeOf(value);
+        this.output.write(type);
+        writeString(key);
+        writePayload(type, value);
+        return this;
+    }
+
+    @Override
+    public DataWriter beginView(String key) throws IOException {
+        checkNotNull(key, "key");
+        checkState(!this.finished, "The writer is closed");
+        this.output.write(VIEW);
+        writeString(key);
+        openView();
+        return this;
+    }
+
+    @Override
+    public DataWriter endView() throws IOException {
+        checkState(!this.views.isEmpty(), "Can't end the root view");
+        closeView();
+        return this;
+    }
+
+    private void openView() {
+        if (this.views.isEmpty()) {
+            this.output = new DataOutputStream(this.buffer);
+        }
+        final View view = new View(this.buffer.size(), this.strings.size());
+        this.buffer.skip(HEADER_SIZE);
+        this.views.push(view);
+        this.bufferedViews.add(view);
+    }
+
+    /**
+     * Ends the current view and fills in its header, its length in bytes and
+     * the number of strings it adds to the string table.
+     */
+    private void closeView() throws IOException {
+        this.output.write(END);
+        final View view = this.views.pop();
+        // The length without the unused header space of the nested views
+        final int length = this.buffer.size() - view.header - HEADER_SIZE - view.nestedSlack;
+        final int end = putVarInt(this.buffer.array(), putVarInt(this.buffer.array(), view.header, length),
+                this.strings.size() - view.firstString);
+        view.headerLength = end - view.header;
+        if (!this.views.isEmpty()) {
+            this.views.peek().nestedSlack += view.nestedSlack + HEADER_SIZE - view.headerLength;
+            return;
+        }
+
+        final byte[] bytes = this.buffer.array();
+        int position = 0;
+        for (View buffered : this.bufferedViews) {
+            this.stream.write(bytes, position, buffered.header + buffered.headerLength - position);
+            position = buffered.header + HEADER_SIZE;
+        }
+        this.stream.write(bytes, position, this.buffer.size() - position);
+        this.buffer.reset();
+        this.bufferedViews.clear();
+        this.output = this.stream;
+    }
+
+    /**
+     * Ends all open views including the root view, and flushes the stream
+     * without closing it.
+     *
+     * @throws IOException If there was an error writing to the stream
+     */
+    void finish() throws IOException {
+        if (this.finished) {
+            return;
+        }
+        while (!this.views.isEmpty()) {
+            closeView();
+        }
+        this.output.write(END);
+        this.stream.flush();
+        this.finished = true;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        // Open views can't be written before they end
+        this.stream.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            finish();
+        } finally {
+            this.stream.close();
+        }
+    }
+
+    private void writeEntries(Map<?, ?> entries) throws IOException {
+        for (Map.Entry<?, ?> entry : entries.entrySet()) {
+            final Object key = entry.getKey();
+            write(key instanceof DataQuery ? ((DataQuery) key).asString('.') : key.toString(), entry.getValue());
+        }
+    }
+
+    private static byte typeOf(Object value) {
+        if (value instanceof DataView || value instanceof Map) {
+            return VIEW;
+        } else if (value instanceof Boolean) {
+            return BOOLEAN;
+        } else if (value instanceof Byte) {
+            return BYTE;
+        } else if (value instanceof Short) {
+            return SHORT;
+        } else if (value instanceof Character) {
+            return CHAR;
+        } else if (value instanceof Integer) {
+            return INT;
+        } else if (value instanceof Long) {
+            return LONG;
+        } else if (value instanceof Float) {
+            return FLOAT;
+        } else if (value instanceof Double) {
+            return DOUBLE;
+        } else if (value instanceof String) {
+            return STRING;
+        } else if (value instanceof Collection) {
+            return listType((Collection<?>) value);
+        } else if (value instanceof byte[]) {
+            return BYTE_ARRAY;
+        } else if (value instanceof int[]) {
+            return INT_ARRAY;
+        } else if (value instanceof long[]) {
+            return LONG_ARRAY;
+        } else if (value instanceof Object[]) {
+            return listType(Arrays.asList((Object[]) value));
+        }
+        throw new InvalidDataException("Unsupported value type: " + value.getClass().getName());
+    }
+
+    private static byte listType(Collection<?> collection) {
+        if (collection.isEmpty()) {
+            return LIST;
+        }
+        final Class<?> elementType = collection.iterator().next().getClass();
+        final byte type;
+        if (elementType == Integer.class) {
+            type = INT_LIST;
+        } else if (elementType == Long.class) {
+            type = LONG_LIST;
+        } else if (elementType == Double.class) {
+            type = DOUBLE_LIST;
+        } else {
+            return LIST;
+        }
+        for (Object element : collection) {
+            if (element == null || element.getClass() != elementType) {
+                return LIST;
+            }
+        }
+        return type;
+    }
+
+    private void writePayload(byte type, Object value) throws IOException {
+        switch (type) {
+            case VIEW:
+                openView();
+                writeEntries(value instanceof DataView ? ((DataView) value).getValues(false) : (Map<?, ?>) value);
+                closeView();
+                break;
+            case BOOLEAN:
+                this.output.writeBoolean((Boolean) value);
+                break;
+            case BYTE:
+                this.output.writeByte((Byte) value);
+                break;
+            case SHORT:
+                writeVarInt(zigZag((Short) value));
+                break;
+            case CHAR:
+                writeVarInt((Character) value);
+                break;
+            case INT:
+                writeVarInt(zigZag((Integer) value));
+                break;
+            case LONG:
+                writeVarLong(zigZag((Long) value));
+                break;
+            case FLOAT:
+                this.output.writeFloat((Float) value);
+                break;
+            case DOUBLE:
+                this.output.writeDouble((Double) value);
+                break;
+            case STRING:
+                writeString((String) value);
+                break;
+            case BYTE_ARRAY: {
+                final byte[] array = (byte[]) value;
+                writeVarInt(array.length);
+                this.output.write(array);
+                break;
+            }
+            case INT_ARRAY: {
+                final int[] array = (int[]) value;
+                writeVarInt(array.length);
+                for (int element : array) {
+                    writeVarInt(zigZag(element));
+                }
+                break;
+            }
+            case LONG_ARRAY: {
+                final long[] array = (long[]) value;
+                writeVarInt(array.length);
+                for (long element : array) {
+                    writeVarLong(zigZag(element));
+                }
+                break;
+            }
+            default:
+                writeList(type, value instanceof Collection ? (Collection<?>) value : Arrays.asList((Object[]) value));
+        }
+    }
+
+    private void writeList(byte type, Collection<?> collection) throws IOException {
+        writeVarInt(collection.size());
+        for (Object element : collection) {
+            switch (type) {
+                case INT_LIST:
+                    writeVarInt(zigZag((Integer) element));
+                    break;
+                case LONG_LIST:
+                    writeVarLong(zigZag((Long) element));
+                    break;
+                case DOUBLE_LIST:
+                    this.output.writeDouble((Double) element);
+                    break;
+                default:
+                    final byte elementType = typeOf(element);
+                    this.output.write(elementType);
+                    writePayload(elementType, element);
+            }
+        }
+    }
+
+    private void writeString(String string) throws IOException {
+        final Integer index = this.strings.get(string);
+        if (index != null) {
+            writeVarInt(index + 1);
+            return;
+        }
+        this.strings.put(string, this.strings.size());
+        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(0);
+        writeVarInt(bytes.length);
+        this.output.write(bytes);
+    }
+
+    private void writeVarInt(int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            this.output.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        this.output.write(value);
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            this.output.write(((int) value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        this.output.write((int) value);
+    }
+
+    private static int putVarInt(byte[] bytes, int index, int value) {
+        while ((value & ~0x7F) != 0) {
+            bytes[index++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[index++] = (byte) value;
+        return index;
+    }
+
+    private static final class View {
+
+        /**
+         * The position of the header in the buffer.
+         */
+        final int header;
+        final int firstString;
+
+        /**
+         * The size of the header once it was filled in.
+         */
+        int headerLength;
+
+        /**
+         * The unused header space of all views nested in this view.
+         */
+        int nestedSlack;
+
+        View(int header, int firstString) {
+            this.header = header;
+            this.firstString = firstString;
+        }
+
+    }
+
+    private static final class Buffer extends ByteArrayOutputStream {
+
+        byte[] array() {
+            return this.buf;
+        }
+
+        void skip(int count) {
+            final int size = this.count + count;
+            if (size > this.buf.length) {
+                this.buf = Arrays.copyOf(this.buf, Math.max(size, this.buf.length * 2));
+            }
+            this.count = size;
+        }
+
+    }
+
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+}
@@ -24,9 +24,29 @@
  */
 package org.spongepowered.api.data.persistence;
 
+import com.google.common.collect.ImmutableSet;
+import org.spongepowered.api.data.DataQuery;
 import org.spongepowered.api.data.DataView;
 import org.spongepowered.api.util.Updater;
 
+import java.util.Set;
+
 public interface DataContentUpdater extends Updater<DataView> {
 
+    /**
+     * Gets the queries of all data this updater reads, changes or removes.
+     * An updater that only touches these queries may be given a view that
+     * only contains their data, which allows several updaters to be applied
+     * without going over the rest of the view, see
+     * {@link DataContentUpdaterGraph}.
+     *
+     * <p>By default this is the empty query, meaning that the updater may
+     * touch the whole view.</p>
+     *
+     * @return The queries touched by this updater
+     */
+    default Set<DataQuery> getUpdatedQueries() {
+        return ImmutableSet.of(DataQuery.of());
+    }
+
 }
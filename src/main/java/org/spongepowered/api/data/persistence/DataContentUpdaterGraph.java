@@ -0,0 +1,184 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableSet;
+import org.spongepowered.api.data.DataManager;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.IndexedDataContainer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@link DataContentUpdater}s registered for a single type, resolving
+ * the shortest chain of updaters between two versions. Intended to back
+ * {@link DataManager#getWrappedContentUpdater(Class, int, int)}.
+ *
+ * <p>Resolved chains are cached per version pair until another updater is
+ * registered. If every updater of a chain declares the
+ * {@link DataContentUpdater#getUpdatedQueries() queries it touches}, the
+ * chain copies the data at those queries once, applies all updaters to
+ * that copy and writes the result back, instead of every updater going
+ * over the whole view.</p>
+ */
+public final class DataContentUpdaterGraph {
+
+    private final Map<Integer, List<DataContentUpdater>> updaters = new HashMap<>();
+    private final Map<Long, Optional<DataContentUpdater>> chains = new ConcurrentHashMap<>();
+
+    /**
+     * Registers an updater.
+     *
+     * @param updater The updater
+     */
+    public synchronized void register(DataContentUpdater updater) {
+        checkNotNull(updater, "updater");
+        this.updaters.computeIfAbsent(updater.getInputVersion(), version -> new ArrayList<>()).add(updater);
+        this.chains.clear();
+    }
+
+    /**
+     * Gets an updater applying the shortest chain of registered updaters
+     * from the given version to the other.
+     *
+     * @param fromVersion The version converting from
+     * @param toVersion The version converting to
+     * @return The updater, if the versions are connected
+     */
+    public Optional<DataContentUpdater> getUpdater(int fromVersion, int toVersion) {
+        final long key = ((long) fromVersion << 32) | (toVersion & 0xFFFFFFFFL);
+        final Optional<DataContentUpdater> chain = this.chains.get(key);
+        if (chain != null) {
+            return chain;
+        }
+        synchronized (this) {
+            return this.chains.computeIfAbsent(key, k -> resolve(fromVersion, toVersion));
+        }
+    }
+
+    private Optional<DataContentUpdater> resolve(int fromVersion, int toVersion) {
+        if (fromVersion == toVersion) {
+            return Optional.empty();
+        }
+        // Breadth first, so the first path found uses the fewest updaters
+        final Map<Integer, DataContentUpdater> reachedBy = new HashMap<>();
+        final Deque<Integer> queue = new ArrayDeque<>();
+        queue.add(fromVersion);
+        while (!queue.isEmpty()) {
+            final int version = queue.poll();
+            for (DataContentUpdater updater : this.updaters.getOrDefault(version, Collections.emptyList())) {
+                final int output = updater.getOutputVersion();
+                if (output == fromVersion || reachedBy.containsKey(output)) {
+                    continue;
+                }
+                reachedBy.put(output, updater);
+                if (output == toVersion) {
+                    final List<DataContentUpdater> path = new ArrayList<>();
+                    for (int v = toVersion; v != fromVersion; v = reachedBy.get(v).getInputVersion()) {
+                        path.add(0, reachedBy.get(v));
+                    }
+                    return Optional.of(path.size() == 1 ? path.get(0) : new Chain(path));
+                }
+                queue.add(output);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static final class Chain implements DataContentUpdater {
+
+        private final DataContentUpdater[] updaters;
+        private final Set<DataQuery> queries;
+
+        Chain(List<DataContentUpdater> updaters) {
+            this.updaters = updaters.toArray(new DataContentUpdater[updaters.size()]);
+            final ImmutableSet.Builder<DataQuery> queries = ImmutableSet.builder();
+            for (DataContentUpdater updater : this.updaters) {
+                queries.addAll(updater.getUpdatedQueries());
+            }
+            final Set<DataQuery> all = queries.build();
+            this.queries = all.contains(DataQuery.of()) ? ImmutableSet.of(DataQuery.of()) : all;
+        }
+
+        @Override
+        public int getInputVersion() {
+            return this.updaters[0].getInputVersion();
+        }
+
+        @Override
+        public int getOutputVersion() {
+            return this.updaters[this.updaters.length - 1].getOutputVersion();
+        }
+
+        @Override
+        public Set<DataQuery> getUpdatedQueries() {
+            return this.queries;
+        }
+
+        @Override
+        public DataView update(DataView content) {
+            if (this.queries.contains(DataQuery.of())) {
+                DataView view = content;
+                for (DataContentUpdater updater : this.updaters) {
+                    view = updater.update(view);
+                }
+                return view;
+            }
+            DataView touched = new IndexedDataContainer(DataView.SafetyMode.NO_DATA_CLONED);
+            for (DataQuery query : this.queries) {
+                final Optional<Object> value = content.get(query);
+                if (value.isPresent()) {
+                    touched.set(query, value.get());
+                }
+            }
+            for (DataContentUpdater updater : this.updaters) {
+                touched = updater.update(touched);
+            }
+            for (DataQuery query : this.queries) {
+                final Optional<Object> value = touched.get(query);
+                if (value.isPresent()) {
+                    content.set(query, value.get());
+                } else {
+                    content.remove(query);
+                }
+            }
+            return content;
+        }
+
+    }
+
+}
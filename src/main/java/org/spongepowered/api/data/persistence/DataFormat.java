@@ -32,6 +32,7 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Represents a parser for a particular file format allowing reading and writing
@@ -62,4 +63,63 @@ public interface DataFormat extends CatalogType {
      */
     void writeTo(OutputStream output, DataView data) throws IOException;
 
+    /**
+     * Creates a {@link DataReader} reading the contents of the given
+     * {@link InputStream} entry by entry. Closing the reader closes the
+     * stream.
+     *
+     * <p>Formats that can't be streamed read the whole stream upfront, the
+     * formats provided by {@link DataFormats} should override this to skip
+     * values without decoding them.</p>
+     *
+     * @param input The input stream
+     * @return The reader
+     * @throws InvalidDataFormatException If the data in the stream was not a
+     *         supported format
+     * @throws IOException If there was an error reading from the stream
+     */
+    default DataReader createReader(InputStream input) throws InvalidDataFormatException, IOException {
+        try {
+            return new ViewDataReader(readFrom(input));
+        } finally {
+            input.close();
+        }
+    }
+
+    /**
+     * Creates a {@link DataWriter} writing entries to the given
+     * {@link OutputStream} using the format specified by this
+     * {@link DataFormat}. Closing the writer closes the stream.
+     *
+     * <p>Formats that can't be streamed collect the entries and write them
+     * once the writer is closed.</p>
+     *
+     * @param output The output stream
+     * @return The writer
+     * @throws IOException If there was an error writing to the stream
+     */
+    default DataWriter createWriter(OutputStream output) throws IOException {
+        return new ViewDataWriter(this, output);
+    }
+
+    /**
+     * Creates a {@link DataContainer} over the contents of the given
+     * {@link ByteBuffer}, from its position to its limit. The position of
+     * the buffer is not changed.
+     *
+     * <p>Formats that support it only decode the entries of a view when it
+     * is accessed, and skip views that are never accessed without decoding
+     * them. The buffer may then not be modified while the container is in
+     * use. Other formats read the whole buffer upfront.</p>
+     *
+     * @param buffer The buffer, possibly memory-mapped
+     * @return A data container representing the contents of the buffer
+     * @throws InvalidDataFormatException If the data in the buffer was not a
+     *         supported format
+     * @throws IOException If there was an error reading the buffer
+     */
+    default DataContainer view(ByteBuffer buffer) throws InvalidDataFormatException, IOException {
+        return readFrom(new ByteBufferInputStream(buffer.slice()));
+    }
+
 }
@@ -33,6 +33,11 @@ public final class DataFormats {
 
     // SORTFIELDS:ON
 
+    /**
+     * A compact binary format, see {@link BinaryDataFormat}.
+     */
+    public static final DataFormat BINARY = DummyObjectProvider.createFor(DataFormat.class, "BINARY");
+
     public static final StringDataFormat HOCON = DummyObjectProvider.createFor(StringDataFormat.class, "HOCON");
 
     public static final StringDataFormat JSON = DummyObjectProvider.createFor(StringDataFormat.class, "JSON");
@@ -0,0 +1,120 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataView;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.NoSuchElementException;
+
+/**
+ * A pull style reader of serialized {@link DataView}s, created by
+ * {@link DataFormat#createReader(java.io.InputStream)}.
+ *
+ * <p>The reader starts positioned in the root view. Every entry is read by
+ * calling {@link #nextKey()}, followed by one of {@link #nextValue()},
+ * {@link #beginView()} or {@link #skipValue()} to consume its value. Values
+ * that are skipped, including whole views, are not decoded.</p>
+ *
+ * <pre>{@code
+ * while (reader.hasNext()) {
+ *     if (reader.nextKey().equals("Level") && reader.isView()) {
+ *         reader.beginView();
+ *         ...
+ *         reader.endView();
+ *     } else {
+ *         reader.skipValue();
+ *     }
+ * }
+ * }</pre>
+ */
+public interface DataReader extends Closeable {
+
+    /**
+     * Gets whether the current view has another entry. If the value of the
+     * current entry was not consumed yet, it is skipped.
+     *
+     * @return True if there is another entry
+     * @throws IOException If there was an error reading from the stream
+     */
+    boolean hasNext() throws IOException;
+
+    /**
+     * Advances to the next entry of the current view.
+     *
+     * @return The key of the entry
+     * @throws NoSuchElementException If the current view has no more entries
+     * @throws IOException If there was an error reading from the stream
+     */
+    String nextKey() throws IOException;
+
+    /**
+     * Gets whether the value of the current entry is a view.
+     *
+     * @return True if the value is a view
+     * @throws IllegalStateException If there is no current entry
+     * @throws IOException If there was an error reading from the stream
+     */
+    boolean isView() throws IOException;
+
+    /**
+     * Reads the value of the current entry. Views are read as a whole into
+     * a new {@link DataContainer}.
+     *
+     * @return The value
+     * @throws IllegalStateException If there is no current entry
+     * @throws IOException If there was an error reading from the stream
+     */
+    Object nextValue() throws IOException;
+
+    /**
+     * Enters the view that is the value of the current entry, following
+     * calls read the entries of that view.
+     *
+     * @throws IllegalStateException If the current value is not a view
+     * @throws IOException If there was an error reading from the stream
+     */
+    void beginView() throws IOException;
+
+    /**
+     * Skips the remaining entries of the current view and returns to the
+     * view containing it.
+     *
+     * @throws IllegalStateException If the current view is the root view
+     * @throws IOException If there was an error reading from the stream
+     */
+    void endView() throws IOException;
+
+    /**
+     * Skips the value of the current entry without decoding it.
+     *
+     * @throws IllegalStateException If there is no current entry
+     * @throws IOException If there was an error reading from the stream
+     */
+    void skipValue() throws IOException;
+
+}
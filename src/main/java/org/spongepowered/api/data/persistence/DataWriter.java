@@ -0,0 +1,72 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import org.spongepowered.api.data.DataView;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+
+/**
+ * A streaming writer of serialized {@link DataView}s, created by
+ * {@link DataFormat#createWriter(java.io.OutputStream)}.
+ *
+ * <p>The writer starts positioned in the root view, entries are written to
+ * the current view. Closing the writer ends the root view.</p>
+ */
+public interface DataWriter extends Closeable, Flushable {
+
+    /**
+     * Writes an entry to the current view. The value can be any value
+     * supported by {@link DataView#set}, including whole views.
+     *
+     * @param key The key of the entry
+     * @param value The value
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the stream
+     */
+    DataWriter write(String key, Object value) throws IOException;
+
+    /**
+     * Starts a new view entry in the current view, following entries are
+     * written to the new view until {@link #endView()} is called.
+     *
+     * @param key The key of the view
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the stream
+     */
+    DataWriter beginView(String key) throws IOException;
+
+    /**
+     * Ends the current view and returns to the view containing it.
+     *
+     * @return This writer, for chaining
+     * @throws IllegalStateException If the current view is the root view
+     * @throws IOException If there was an error writing to the stream
+     */
+    DataWriter endView() throws IOException;
+
+}
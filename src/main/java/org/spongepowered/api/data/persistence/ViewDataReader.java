@@ -0,0 +1,109 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link DataReader} over an already read {@link DataView}, used by
+ * formats that can't stream their data.
+ */
+final class ViewDataReader implements DataReader {
+
+    private final Deque<Iterator<Map.Entry<DataQuery, Object>>> views = new ArrayDeque<>();
+    @Nullable private Object value;
+
+    ViewDataReader(DataView view) {
+        this.views.push(view.getValues(false).entrySet().iterator());
+    }
+
+    @Override
+    public boolean hasNext() {
+        this.value = null;
+        return this.views.peek().hasNext();
+    }
+
+    @Override
+    public String nextKey() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final Map.Entry<DataQuery, Object> entry = this.views.peek().next();
+        this.value = entry.getValue();
+        return entry.getKey().asString('.');
+    }
+
+    @Override
+    public boolean isView() {
+        checkState(this.value != null, "There is no current entry");
+        return this.value instanceof DataView;
+    }
+
+    @Override
+    public Object nextValue() {
+        checkState(this.value != null, "There is no current entry");
+        final Object value = this.value;
+        this.value = null;
+        return value instanceof DataView ? ((DataView) value).copy() : value;
+    }
+
+    @Override
+    public void beginView() {
+        checkState(isView(), "The current value is not a view");
+        this.views.push(((DataView) this.value).getValues(false).entrySet().iterator());
+        this.value = null;
+    }
+
+    @Override
+    public void endView() {
+        checkState(this.views.size() > 1, "Can't end the root view");
+        this.views.pop();
+        this.value = null;
+    }
+
+    @Override
+    public void skipValue() {
+        checkState(this.value != null, "There is no current entry");
+        this.value = null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.views.clear();
+    }
+
+}
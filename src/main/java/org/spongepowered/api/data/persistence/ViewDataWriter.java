@@ -0,0 +1,94 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.IndexedDataContainer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A {@link DataWriter} collecting the written data in a container, which is
+ * written with {@link DataFormat#writeTo} when the writer is closed. Used
+ * by formats that can't stream their data.
+ */
+final class ViewDataWriter implements DataWriter {
+
+    private final DataFormat format;
+    private final OutputStream output;
+    private final DataView root = new IndexedDataContainer(DataView.SafetyMode.NO_DATA_CLONED);
+    private final Deque<DataView> views = new ArrayDeque<>();
+    private boolean closed;
+
+    ViewDataWriter(DataFormat format, OutputStream output) {
+        this.format = format;
+        this.output = output;
+        this.views.push(this.root);
+    }
+
+    @Override
+    public DataWriter write(String key, Object value) {
+        this.views.peek().set(DataQuery.of(key), value);
+        return this;
+    }
+
+    @Override
+    public DataWriter beginView(String key) {
+        this.views.push(this.views.peek().createView(DataQuery.of(key)));
+        return this;
+    }
+
+    @Override
+    public DataWriter endView() {
+        checkState(this.views.size() > 1, "Can't end the root view");
+        this.views.pop();
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.output.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        try {
+            this.format.writeTo(this.output, this.root);
+        } finally {
+            this.output.close();
+        }
+    }
+
+}
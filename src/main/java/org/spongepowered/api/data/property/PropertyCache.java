@@ -0,0 +1,106 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.property;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.data.Property;
+import org.spongepowered.api.world.TeleportHelper;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A memo table of {@link Property} lookups per {@link BlockState} and
+ * {@link PropertyStore}. Block properties are queried over and over by
+ * pathfinding or a {@link TeleportHelper}, while there are only so many
+ * block states. Other holders, such as locations, are unbounded in number
+ * and are never cached.
+ *
+ * <p>Only {@link PropertyStore}s that declare themselves
+ * {@link PropertyStore#isCacheable() cacheable} are cached, any other
+ * store, such as one depending on the position of the block, is queried
+ * directly.</p>
+ *
+ * <p>The cache is safe for concurrent use. It has to be
+ * {@link #invalidate() invalidated} when stores are registered.</p>
+ */
+public final class PropertyCache {
+
+    // Several stores may provide the same property class, every store has
+    // its own table of results
+    private final Map<Class<?>, Map<PropertyStore<?>, Map<BlockState, Optional<?>>>> tables = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the property of the given class for the block state, from the
+     * cache if the store is cacheable and the property was requested before.
+     *
+     * @param blockState The block state
+     * @param propertyClass The property class
+     * @param store The property store for the property class
+     * @param <T> The type of property
+     * @return The property, if available
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Property<?, ?>> Optional<T> getFor(BlockState blockState, Class<T> propertyClass, PropertyStore<T> store) {
+        checkNotNull(blockState, "blockState");
+        checkNotNull(propertyClass, "propertyClass");
+        if (!checkNotNull(store, "store").isCacheable()) {
+            return store.getFor(blockState);
+        }
+        final Map<BlockState, Optional<?>> table = this.tables
+                .computeIfAbsent(propertyClass, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(store, key -> new ConcurrentHashMap<>());
+        Optional<?> property = table.get(blockState);
+        if (property == null) {
+            // Not computeIfAbsent, stores may look up other properties of the block state
+            property = checkNotNull(store.getFor(blockState), "store returned null");
+            final Optional<?> previous = table.putIfAbsent(blockState, property);
+            if (previous != null) {
+                property = previous;
+            }
+        }
+        return (Optional<T>) property;
+    }
+
+    /**
+     * Removes all cached properties of the given class.
+     *
+     * @param propertyClass The property class
+     */
+    public void invalidate(Class<? extends Property<?, ?>> propertyClass) {
+        this.tables.remove(checkNotNull(propertyClass, "propertyClass"));
+    }
+
+    /**
+     * Removes all cached properties.
+     */
+    public void invalidate() {
+        this.tables.clear();
+    }
+
+}
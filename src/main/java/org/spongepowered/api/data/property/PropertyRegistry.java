@@ -36,6 +36,9 @@ public interface PropertyRegistry {
      * {@link PropertyStore} can be registered per {@link Property}. Multiple
      * registrations will result in exceptions being thrown.
      *
+     * <p>Registering a store invalidates any {@link PropertyCache}d
+     * properties of the property class.</p>
+     *
      * @param propertyClass The property class
      * @param propertyStore The property store
      * @param <T> The type of property
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.api.data.property;
 
+import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.data.Property;
 import org.spongepowered.api.util.Direction;
 import org.spongepowered.api.world.Location;
@@ -72,6 +73,19 @@
      */
     Optional<T> getFor(Location<World> location, Direction direction);
 
+    /**
+     * Gets whether the properties provided by this store are a pure function
+     * of the {@link PropertyHolder} itself, such as a property of a block
+     * state that doesn't depend on the position of the block. The results of
+     * cacheable stores may be memoized per {@link BlockState}, see
+     * {@link PropertyCache}.
+     *
+     * @return True if the properties only depend on the holder
+     */
+    default boolean isCacheable() {
+        return false;
+    }
+
     /**
      * Gets the priority of which this {@link PropertyStore} is used for
      * handling a particular {@link PropertyHolder}. This is useful for
@@ -0,0 +1,50 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.value;
+
+/**
+ * A specialization of {@link BaseValue} holding a {@code boolean}, which
+ * allows the value to be read without boxing. Implementations of the
+ * values for {@code Boolean} keys are expected to implement this, so
+ * {@link ValueContainer#getBoolean(org.spongepowered.api.data.key.Key)} uses
+ * it.
+ */
+public interface BooleanValue extends BaseValue<Boolean> {
+
+    /**
+     * Gets the held value without boxing, see {@link #get()}.
+     *
+     * @return The held value
+     */
+    boolean getBoolean();
+
+    /**
+     * Gets the default value without boxing, see {@link #getDefault()}.
+     *
+     * @return The default value
+     */
+    boolean getDefaultBoolean();
+
+}
@@ -125,6 +125,150 @@ default <E> E getOrElse(Key<? extends BaseValue<E>> key, E defaultValue) {
         return get(key).orElse(checkNotNull(defaultValue, "Provided a null default value for 'getOrElse(Key, null)'!"));
     }
 
+    /**
+     * Gets the underlying {@code int} value linked to the provided
+     * {@link Key}, like {@link #require(Key)}. If the value of the key is
+     * an {@link IntValue}, it is read without boxing.
+     *
+     * @param key The key
+     * @return The value
+     * @throws NoSuchElementException If the value is not supported or present
+     */
+    default int getInt(Key<? extends BaseValue<Integer>> key) {
+        final Optional<? extends BaseValue<Integer>> value = getValue(key);
+        if (value.isPresent()) {
+            return value.get() instanceof IntValue ? ((IntValue) value.get()).getInt() : value.get().get();
+        }
+        return require(key);
+    }
+
+    /**
+     * Gets the underlying {@code int} value linked to the provided
+     * {@link Key}, or the given {@code defaultValue} if it is not available.
+     * If the value of the key is an {@link IntValue}, it is read without
+     * boxing.
+     *
+     * @param key The key
+     * @param defaultValue The value to default to if not available
+     * @return The value, or default if not available
+     */
+    default int getInt(Key<? extends BaseValue<Integer>> key, int defaultValue) {
+        final Optional<? extends BaseValue<Integer>> value = getValue(key);
+        if (value.isPresent()) {
+            return value.get() instanceof IntValue ? ((IntValue) value.get()).getInt() : value.get().get();
+        }
+        final Optional<Integer> boxed = get(key);
+        return boxed.isPresent() ? boxed.get() : defaultValue;
+    }
+
+    /**
+     * Gets the underlying {@code long} value linked to the provided
+     * {@link Key}, like {@link #require(Key)}. If the value of the key is
+     * a {@link LongValue}, it is read without boxing.
+     *
+     * @param key The key
+     * @return The value
+     * @throws NoSuchElementException If the value is not supported or present
+     */
+    default long getLong(Key<? extends BaseValue<Long>> key) {
+        final Optional<? extends BaseValue<Long>> value = getValue(key);
+        if (value.isPresent()) {
+            return value.get() instanceof LongValue ? ((LongValue) value.get()).getLong() : value.get().get();
+        }
+        return require(key);
+    }
+
+    /**
+     * Gets the underlying {@code long} value linked to the provided
+     * {@link Key}, or the given {@code defaultValue} if it is not available.
+     * If the value of the key is a {@link LongValue}, it is read without
+     * boxing.
+     *
+     * @param key The key
+     * @param defaultValue The value to default to if not available
+     * @return The value, or default if not available
+     */
+    default long getLong(Key<? extends BaseValue<Long>> key, long defaultValue) {
+        final Optional<? extends BaseValue<Long>> value = getValue(key);
+        if (value.isPresent()) {
+            return value.get() instanceof LongValue ? ((LongValue) value.get()).getLong() : value.get().get();
+        }
+        final Optional<Long> boxed = get(key);
+        return boxed.isPresent() ? boxed.get() : defaultValue;
+    }
+
+    /**
+     * Gets the underlying {@code double} value linked to the provided
+     * {@link Key}, like {@link #require(Key)}. If the value of the key is
+     * a {@link DoubleValue}, it is read without boxing.
+     *
+     * @param key The key
+     * @return The value
+     * @throws NoSuchElementException If the value is not supported or present
+     */
+    default double getDouble(Key<? extends BaseValue<Double>> key) {
+        final Optional<? extends BaseValue<Double>> value = getValue(key);
+        if (value.isPresent()) {
+            return value.get() instanceof DoubleValue ? ((DoubleValue) value.get()).getDouble() : value.get().get();
+        }
+        return require(key);
+    }
+
+    /**
+     * Gets the underlying {@code double} value linked to the provided
+     * {@link Key}, or the given {@code defaultValue} if it is not available.
+     * If the value of the key is a {@link DoubleValue}, it is read without
+     * boxing.
+     *
+     * @param key The key
+     * @param defaultValue The value to default to if not available
+     * @return The value, or default if not available
+     */
+    default double getDouble(Key<? extends BaseValue<Double>> key, double defaultValue) {
+        final Optional<? extends BaseValue<Double>> value = getValue(key);
+        if (value.isPresent()) {
+            return value.get() instanceof DoubleValue ? ((DoubleValue) value.get()).getDouble() : value.get().get();
+        }
+        final Optional<Double> boxed = get(key);
+        return boxed.isPresent() ? boxed.get() : defaultValue;
+    }
+
+    /**
+     * Gets the underlying {@code boolean} value linked to the provided
+     * {@link Key}, like {@link #require(Key)}. If the value of the key is
+     * a {@link BooleanValue}, it is read without boxing.
+     *
+     * @param key The key
+     * @return The value
+     * @throws NoSuchElementException If the value is not supported or present
+     */
+    default boolean getBoolean(Key<? extends BaseValue<Boolean>> key) {
+        final Optional<? extends BaseValue<Boolean>> value = getValue(key);
+        if (value.isPresent()) {
+            return value.get() instanceof BooleanValue ? ((BooleanValue) value.get()).getBoolean() : value.get().get();
+        }
+        return require(key);
+    }
+
+    /**
+     * Gets the underlying {@code boolean} value linked to the provided
+     * {@link Key}, or the given {@code defaultValue} if it is not available.
+     * If the value of the key is a {@link BooleanValue}, it is read without
+     * boxing.
+     *
+     * @param key The key
+     * @param defaultValue The value to default to if not available
+     * @return The value, or default if not available
+     */
+    default boolean getBoolean(Key<? extends BaseValue<Boolean>> key, boolean defaultValue) {
+        final Optional<? extends BaseValue<Boolean>> value = getValue(key);
+        if (value.isPresent()) {
+            return value.get() instanceof BooleanValue ? ((BooleanValue) value.get()).getBoolean() : value.get().get();
+        }
+        final Optional<Boolean> boxed = get(key);
+        return boxed.isPresent() ? boxed.get() : defaultValue;
+    }
+
     /**
      * Gets the {@link BaseValue} for the given {@link Key}.
      *
@@ -33,6 +33,7 @@
 import org.spongepowered.api.data.value.ValueContainer;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.function.Function;
@@ -214,6 +215,33 @@ default <E> DataTransactionResult offer(BaseValue<E> value) {
         return offer(value.getKey(), value.get());
     }
 
+    /**
+     * Offers all of the given values, as defined by their {@link Key}s, one
+     * by one with {@link #offer(Key, Object)}. The results are absorbed into
+     * the returned {@link DataTransactionResult}, which has the most severe
+     * {@link DataTransactionResult.Type type} of them.
+     *
+     * <p>The offers are not undone if one of them fails, the values offered
+     * successfully before and after it stay set.</p>
+     *
+     * <p>Implementations may resolve the processors of all keys at once,
+     * instead of once per {@link #offer(Key, Object)}.</p>
+     *
+     * @param values The values to set, by key
+     * @return The transaction result
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    default DataTransactionResult offerAll(Map<? extends Key<?>, ?> values) {
+        if (checkNotNull(values, "values").isEmpty()) {
+            return DataTransactionResult.successNoData();
+        }
+        final DataTransactionResult.Builder builder = DataTransactionResult.builder();
+        for (Map.Entry<? extends Key<?>, ?> entry : values.entrySet()) {
+            builder.absorbResult(offer((Key) checkNotNull(entry.getKey(), "key"), checkNotNull(entry.getValue(), "value")));
+        }
+        return builder.build();
+    }
+
     /**
      * Offers the given {@link ValueContainer} such that all of the available
      * {@link BaseValue}s from the given {@link ValueContainer} are offered
@@ -0,0 +1,101 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import com.google.common.reflect.TypeToken;
+
+/**
+ * Direct invokers for the {@link Listener} methods of a listener class,
+ * generated at compile time by the Sponge annotation processor.
+ *
+ * <p>For every listener class whose {@link Listener} methods could all be
+ * compiled, including the ones inherited from its superclasses, a line
+ * mapping the binary name of the listener class to the binary name of its
+ * generated {@link CompiledListeners} class is written to the
+ * {@link #INDEX_RESOURCE}. {@link EventManager#registerListeners(Object, Object)}
+ * implementations can use that index to register a listener object whose
+ * exact class is listed there without reflecting over its methods or
+ * generating invokers at runtime.</p>
+ *
+ * <p>The invokers apply the cancellation state and the filter annotations of
+ * {@link org.spongepowered.api.event.filter} themselves, compiled into
+ * plain checks in front of the listener call. A class with any listener
+ * method using parameters or filters that cannot be resolved at compile
+ * time, such as generic or {@link org.spongepowered.api.event.filter.CoalesceMovement}
+ * listeners, is not listed and has to be registered the usual way. The same
+ * goes for subclasses of listed classes that don't declare listener methods
+ * of their own.</p>
+ *
+ * @param <T> The type of the listener class
+ */
+public interface CompiledListeners<T> {
+
+    /**
+     * The class path resource listing all listener classes with compiled
+     * listeners, one {@code listenerClass compiledListenersClass} pair per
+     * line.
+     */
+    String INDEX_RESOURCE = "META-INF/sponge/listeners.index";
+
+    /**
+     * Gets the class declaring the compiled listener methods.
+     *
+     * @return The listener class
+     */
+    Class<T> getListenerClass();
+
+    /**
+     * Passes an invoker for every listener method of the given listener
+     * object to the registrar, the methods declared by the listener class
+     * first in declaration order, followed by the inherited ones.
+     *
+     * @param listener The listener object
+     * @param registrar The registrar to pass the invokers to
+     */
+    void register(T listener, Registrar registrar);
+
+    /**
+     * Receives the compiled invokers of a listener object.
+     */
+    interface Registrar {
+
+        /**
+         * Registers the invoker of a single listener method.
+         *
+         * @param eventType The event type the method listens to
+         * @param methodName The name of the listener method
+         * @param order The order of the listener
+         * @param beforeModifications Whether to call the listener before other
+         *     server modifications
+         * @param async Whether the listener is safe to call asynchronously
+         * @param invoker The invoker calling the listener method
+         * @param <E> The type of the event
+         */
+        <E extends Event> void register(TypeToken<E> eventType, String methodName, Order order, boolean beforeModifications,
+                boolean async, EventListener<? super E> invoker);
+
+    }
+
+}
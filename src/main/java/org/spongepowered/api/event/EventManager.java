@@ -25,6 +25,12 @@
 package org.spongepowered.api.event;
 
 import com.google.common.reflect.TypeToken;
+import org.spongepowered.api.event.cause.Cause;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Manages the registration of event listeners and the dispatching of events.
@@ -163,6 +169,22 @@ <T extends Event> void registerListener(Object plugin, TypeToken<T> eventType, O
      */
     void unregisterPluginListeners(Object plugin);
 
+    /**
+     * Gets whether any listener is registered that would receive an event of
+     * the given class, including listeners registered for one of its super
+     * types.
+     *
+     * <p>The result is precomputed per event class and updated whenever
+     * listeners are registered or unregistered, so this is cheap enough to
+     * call before constructing an event. Frequently fired events should check
+     * this first to avoid building the event, its {@link Cause} and its
+     * transactions when nobody is listening.</p>
+     *
+     * @param eventClass The event class
+     * @return True if at least one listener would receive the event
+     */
+    boolean hasListeners(Class<? extends Event> eventClass);
+
     /**
      * Calls a {@link Event} to all listeners that listen to it.
      *
@@ -171,4 +193,62 @@ <T extends Event> void registerListener(Object plugin, TypeToken<T> eventType, O
      */
     boolean post(Event event);
 
+    /**
+     * Calls each of the given {@link Event}s to all listeners that listen to
+     * it.
+     *
+     * <p>Every event is seen by a listener exactly as if it had been
+     * {@link #post(Event) posted} on its own, and listeners of every
+     * {@link Order} still run in order for each event. Implementations may
+     * however resolve the listeners once per event class and hand the whole
+     * batch to one listener before moving on to the next, so a listener must
+     * not rely on the events being interleaved with other listeners.</p>
+     *
+     * @param events The events, in posting order
+     * @return The indices of the events that were cancelled
+     */
+    default BitSet postAll(List<? extends Event> events) {
+        final BitSet cancelled = new BitSet(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            if (post(events.get(i))) {
+                cancelled.set(i);
+            }
+        }
+        return cancelled;
+    }
+
+    /**
+     * Calls a {@link Event} to all listeners that listen to it, calling the
+     * async safe listeners on the given executor. Unless overridden by the
+     * implementation, this blocks the calling thread like {@link #post(Event)}.
+     *
+     * <p>The listeners are called in the same {@link Order} as with
+     * {@link #post(Event)}. Listeners which declared themselves
+     * {@link Listener#async() async safe} are called on the given executor,
+     * all other listeners are still called on the thread the implementation
+     * would normally call them on, so the returned future may only complete
+     * once that thread got to them.</p>
+     *
+     * <p>The default implementation can't tell async safe listeners apart,
+     * so it ignores the executor, posts the event on the calling thread with
+     * {@link #post(Event)} and returns an already completed future, which
+     * completes exceptionally if a listener threw a
+     * {@link RuntimeException}. Implementations which track async safety
+     * should override this.</p>
+     *
+     * @param event The event
+     * @param executor The executor to call async safe listeners on
+     * @return A future completing with true if the event was cancelled, false
+     *     if not
+     */
+    default CompletableFuture<Boolean> postAsync(Event event, Executor executor) {
+        try {
+            return CompletableFuture.completedFuture(post(event));
+        } catch (RuntimeException e) {
+            final CompletableFuture<Boolean> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+    }
+
 }
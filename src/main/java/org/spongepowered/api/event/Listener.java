@@ -57,4 +57,14 @@
      */
     boolean beforeModifications() default false;
 
+    /**
+     * Whether this listener may be called from a thread other than the one
+     * the event was posted on. Listeners declaring this can be run on the
+     * executor passed to {@link EventManager#postAsync}, instead of blocking
+     * the thread that fired the event.
+     *
+     * @return If the listener is safe to call asynchronously
+     */
+    boolean async() default false;
+
 }
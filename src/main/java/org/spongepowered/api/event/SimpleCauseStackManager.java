@@ -0,0 +1,344 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.cause.EventContext;
+import org.spongepowered.api.event.cause.EventContextKey;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * A simple implementation of {@link CauseStackManager}.
+ *
+ * <p>Every thread works on its own cause stack. {@link StackFrame}s are
+ * pooled per thread and reused once popped, and the {@link Cause} and
+ * {@link EventContext} of a stack are only rebuilt after the stack has
+ * changed, so pushing and popping frames around an action does not allocate
+ * once the pool is warm.</p>
+ *
+ * <p>A frame handle must not be used after it has been closed, as the same
+ * object is handed out again by a later {@link #pushCauseFrame()}.</p>
+ */
+public class SimpleCauseStackManager implements CauseStackManager {
+
+    private final ThreadLocal<Stack> stacks = ThreadLocal.withInitial(Stack::new);
+
+    @Override
+    public Cause getCurrentCause() {
+        return this.stacks.get().getCause();
+    }
+
+    @Override
+    public EventContext getCurrentContext() {
+        return this.stacks.get().getContext();
+    }
+
+    @Override
+    public CauseStackManager pushCause(Object obj) {
+        checkNotNull(obj, "obj");
+        this.stacks.get().push(obj);
+        return this;
+    }
+
+    @Override
+    public Object popCause() {
+        return this.stacks.get().pop();
+    }
+
+    @Override
+    public void popCauses(int n) {
+        final Stack stack = this.stacks.get();
+        for (int i = 0; i < n; i++) {
+            stack.pop();
+        }
+    }
+
+    @Override
+    public Object peekCause() {
+        return this.stacks.get().peek();
+    }
+
+    @Override
+    public StackFrame pushCauseFrame() {
+        return this.stacks.get().pushFrame();
+    }
+
+    @Override
+    public void popCauseFrame(StackFrame handle) {
+        checkNotNull(handle, "handle");
+        this.stacks.get().popFrame(handle);
+    }
+
+    @Override
+    public <T> CauseStackManager addContext(EventContextKey<T> key, T value) {
+        checkNotNull(key, "key");
+        checkNotNull(value, "value");
+        this.stacks.get().putContext(key, value);
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Optional<T> getContext(EventContextKey<T> key) {
+        checkNotNull(key, "key");
+        return Optional.ofNullable((T) this.stacks.get().getContextValue(key));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Optional<T> removeContext(EventContextKey<T> key) {
+        checkNotNull(key, "key");
+        return Optional.ofNullable((T) this.stacks.get().putContext(key, null));
+    }
+
+    /**
+     * The cause stack, context and frames of a single thread.
+     */
+    private static final class Stack {
+
+        private Object[] causes = new Object[16];
+        private int causeCount;
+
+        // Indexed by context key ordinal
+        private EventContextKey<?>[] contextKeys = new EventContextKey<?>[16];
+        private Object[] contextValues = new Object[16];
+
+        // Frames above frameCount are pooled for reuse
+        private Frame[] frames = new Frame[8];
+        private int frameCount;
+
+        private final EventContext.Builder contextBuilder = EventContext.builder();
+        @Nullable private EventContext cachedContext;
+        @Nullable private Cause cachedCause;
+
+        Stack() {
+        }
+
+        Cause getCause() {
+            if (this.cachedCause == null) {
+                checkState(this.causeCount > 0, "The cause stack is empty");
+                final Cause.Builder builder = Cause.builder();
+                // The most recently pushed object is the root of the cause
+                for (int i = this.causeCount - 1; i >= 0; i--) {
+                    builder.append(this.causes[i]);
+                }
+                this.cachedCause = builder.build(getContext());
+            }
+            return this.cachedCause;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        EventContext getContext() {
+            if (this.cachedContext == null) {
+                this.contextBuilder.reset();
+                for (int i = 0; i < this.contextKeys.length; i++) {
+                    if (this.contextValues[i] != null) {
+                        this.contextBuilder.add((EventContextKey) this.contextKeys[i], this.contextValues[i]);
+                    }
+                }
+                this.cachedContext = this.contextBuilder.build();
+            }
+            return this.cachedContext;
+        }
+
+        void push(Object cause) {
+            if (this.causeCount == this.causes.length) {
+                this.causes = Arrays.copyOf(this.causes, this.causeCount * 2);
+            }
+            this.causes[this.causeCount++] = cause;
+            this.cachedCause = null;
+        }
+
+        Object pop() {
+            final int minDepth = this.frameCount == 0 ? 0 : this.frames[this.frameCount - 1].minDepth;
+            checkState(this.causeCount > minDepth, "Cannot pop a cause pushed before the current frame");
+            final Object cause = this.causes[--this.causeCount];
+            this.causes[this.causeCount] = null;
+            this.cachedCause = null;
+            return cause;
+        }
+
+        Object peek() {
+            checkState(this.causeCount > 0, "The cause stack is empty");
+            return this.causes[this.causeCount - 1];
+        }
+
+        @Nullable
+        Object getContextValue(EventContextKey<?> key) {
+            final int ordinal = key.getOrdinal();
+            return ordinal < this.contextValues.length ? this.contextValues[ordinal] : null;
+        }
+
+        /**
+         * Sets or, if the value is null, clears the context value of a key
+         * and records the previous value in the current frame.
+         */
+        @Nullable
+        Object putContext(EventContextKey<?> key, @Nullable Object value) {
+            final int ordinal = key.getOrdinal();
+            checkArgument(ordinal >= 0, "Negative context key ordinal: %s", ordinal);
+            if (ordinal >= this.contextValues.length) {
+                if (value == null) {
+                    return null;
+                }
+                final int length = Math.max(ordinal + 1, this.contextValues.length * 2);
+                this.contextKeys = Arrays.copyOf(this.contextKeys, length);
+                this.contextValues = Arrays.copyOf(this.contextValues, length);
+            }
+            final Object previous = this.contextValues[ordinal];
+            if (previous == value) {
+                return previous;
+            }
+            if (this.frameCount > 0) {
+                this.frames[this.frameCount - 1].record(key, previous);
+            }
+            this.contextKeys[ordinal] = value == null ? null : key;
+            this.contextValues[ordinal] = value;
+            this.cachedContext = null;
+            this.cachedCause = null;
+            return previous;
+        }
+
+        Frame pushFrame() {
+            if (this.frameCount == this.frames.length) {
+                this.frames = Arrays.copyOf(this.frames, this.frameCount * 2);
+            }
+            Frame frame = this.frames[this.frameCount];
+            if (frame == null) {
+                frame = new Frame(this);
+                this.frames[this.frameCount] = frame;
+            }
+            frame.minDepth = this.causeCount;
+            this.frameCount++;
+            return frame;
+        }
+
+        void popFrame(StackFrame handle) {
+            checkState(this.frameCount > 0 && this.frames[this.frameCount - 1] == handle,
+                    "Attempted to pop a frame that is not the head of the frame stack");
+            final Frame frame = this.frames[--this.frameCount];
+            if (this.causeCount > frame.minDepth) {
+                Arrays.fill(this.causes, frame.minDepth, this.causeCount, null);
+                this.causeCount = frame.minDepth;
+                this.cachedCause = null;
+            }
+            // Undo the context changes of the frame, most recent first
+            for (int i = frame.changeCount - 1; i >= 0; i--) {
+                final int ordinal = frame.changedKeys[i].getOrdinal();
+                this.contextKeys[ordinal] = frame.previousValues[i] == null ? null : frame.changedKeys[i];
+                this.contextValues[ordinal] = frame.previousValues[i];
+            }
+            if (frame.changeCount > 0) {
+                this.cachedContext = null;
+                this.cachedCause = null;
+            }
+            frame.clear();
+        }
+
+    }
+
+    private static final class Frame implements StackFrame {
+
+        private final Stack stack;
+        int minDepth;
+
+        // Undo log of the context changes made while this frame was the head
+        EventContextKey<?>[] changedKeys = new EventContextKey<?>[4];
+        Object[] previousValues = new Object[4];
+        int changeCount;
+
+        Frame(Stack stack) {
+            this.stack = stack;
+        }
+
+        void record(EventContextKey<?> key, @Nullable Object previous) {
+            if (this.changeCount == this.changedKeys.length) {
+                this.changedKeys = Arrays.copyOf(this.changedKeys, this.changeCount * 2);
+                this.previousValues = Arrays.copyOf(this.previousValues, this.changeCount * 2);
+            }
+            this.changedKeys[this.changeCount] = key;
+            this.previousValues[this.changeCount] = previous;
+            this.changeCount++;
+        }
+
+        void clear() {
+            Arrays.fill(this.changedKeys, 0, this.changeCount, null);
+            Arrays.fill(this.previousValues, 0, this.changeCount, null);
+            this.changeCount = 0;
+        }
+
+        @Override
+        public Cause getCurrentCause() {
+            return this.stack.getCause();
+        }
+
+        @Override
+        public EventContext getCurrentContext() {
+            return this.stack.getContext();
+        }
+
+        @Override
+        public StackFrame pushCause(Object obj) {
+            checkNotNull(obj, "obj");
+            this.stack.push(obj);
+            return this;
+        }
+
+        @Override
+        public Object popCause() {
+            return this.stack.pop();
+        }
+
+        @Override
+        public <T> StackFrame addContext(EventContextKey<T> key, T value) {
+            checkNotNull(key, "key");
+            checkNotNull(value, "value");
+            this.stack.putContext(key, value);
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> Optional<T> removeContext(EventContextKey<T> key) {
+            checkNotNull(key, "key");
+            return Optional.ofNullable((T) this.stack.putContext(key, null));
+        }
+
+        @Override
+        public void close() {
+            this.stack.popFrame(this);
+        }
+
+    }
+
+}
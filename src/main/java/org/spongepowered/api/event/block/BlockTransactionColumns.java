@@ -0,0 +1,442 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event.block;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.block.BlockSnapshot;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.data.Transaction;
+import org.spongepowered.api.world.World;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/**
+ * A columnar view of the {@link Transaction}s of a {@link ChangeBlockEvent}.
+ *
+ * <p>Every transaction is stored as a block position packed into a
+ * {@code long}, and the indices of its original and final
+ * {@link BlockState} in a palette of the states used by the event. Bulk
+ * filters only work on these arrays and record invalidated transactions in
+ * a {@link BitSet}, so a {@link Transaction} and its {@link BlockSnapshot}s
+ * are only created once {@link #getTransaction(int)} is called for it.</p>
+ *
+ * <p>Validity is shared with the materialized transactions, changing it
+ * through either view is visible in the other.</p>
+ */
+public final class BlockTransactionColumns {
+
+    /**
+     * Packs a block position into a {@code long}, using 26 bits for x and z
+     * and 12 bits for y.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @param z The z coordinate
+     * @return The packed position
+     */
+    public static long pack(int x, int y, int z) {
+        return ((x & 0x3FFFFFFL) << 38) | ((y & 0xFFFL) << 26) | (z & 0x3FFFFFFL);
+    }
+
+    /**
+     * Gets the x coordinate of a {@link #pack packed} position.
+     *
+     * @param position The packed position
+     * @return The x coordinate
+     */
+    public static int unpackX(long position) {
+        return (int) (position >> 38);
+    }
+
+    /**
+     * Gets the y coordinate of a {@link #pack packed} position.
+     *
+     * @param position The packed position
+     * @return The y coordinate
+     */
+    public static int unpackY(long position) {
+        return (int) (position << 26 >> 52);
+    }
+
+    /**
+     * Gets the z coordinate of a {@link #pack packed} position.
+     *
+     * @param position The packed position
+     * @return The z coordinate
+     */
+    public static int unpackZ(long position) {
+        return (int) (position << 38 >> 38);
+    }
+
+    /**
+     * Creates columns for already materialized transactions.
+     *
+     * @param transactions The transactions
+     * @return The columns
+     */
+    public static BlockTransactionColumns of(List<Transaction<BlockSnapshot>> transactions) {
+        final Builder builder = builder(transactions.size());
+        for (Transaction<BlockSnapshot> transaction : transactions) {
+            final BlockSnapshot original = transaction.getOriginal();
+            final World world = original.getLocation().get().getExtent();
+            builder.add(world, original.getPosition().getX(), original.getPosition().getY(), original.getPosition().getZ(),
+                    original.getState(), transaction.getFinal().getState());
+        }
+        final BlockTransactionColumns columns = builder.build(transactions::get);
+        for (int i = 0; i < transactions.size(); i++) {
+            columns.transactions[i] = transactions.get(i);
+        }
+        return columns;
+    }
+
+    /**
+     * Creates a new {@link Builder}.
+     *
+     * @param expectedSize The expected number of transactions
+     * @return The new builder
+     */
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    private final World[] worlds;
+    private final long[] positions;
+    private final int[] originalStates;
+    private final int[] finalStates;
+    private final BlockState[] palette;
+    private final BitSet invalid;
+    private final IntFunction<Transaction<BlockSnapshot>> materializer;
+    private final Transaction<BlockSnapshot>[] transactions;
+
+    @SuppressWarnings("unchecked")
+    BlockTransactionColumns(Builder builder, IntFunction<Transaction<BlockSnapshot>> materializer) {
+        this.worlds = Arrays.copyOf(builder.worlds, builder.size);
+        this.positions = Arrays.copyOf(builder.positions, builder.size);
+        this.originalStates = Arrays.copyOf(builder.originalStates, builder.size);
+        this.finalStates = Arrays.copyOf(builder.finalStates, builder.size);
+        this.palette = builder.palette.toArray(new BlockState[builder.palette.size()]);
+        this.invalid = new BitSet(builder.size);
+        this.materializer = materializer;
+        this.transactions = new Transaction[builder.size];
+    }
+
+    /**
+     * Gets the number of transactions.
+     *
+     * @return The number of transactions
+     */
+    public int size() {
+        return this.positions.length;
+    }
+
+    /**
+     * Gets the world the transaction at the given index takes place in.
+     *
+     * @param index The transaction index
+     * @return The world
+     */
+    public World getWorld(int index) {
+        return this.worlds[index];
+    }
+
+    /**
+     * Gets the {@link #pack packed} block position of the transaction at the
+     * given index.
+     *
+     * @param index The transaction index
+     * @return The packed position
+     */
+    public long getPosition(int index) {
+        return this.positions[index];
+    }
+
+    /**
+     * Gets the original block state of the transaction at the given index.
+     *
+     * @param index The transaction index
+     * @return The original block state
+     */
+    public BlockState getOriginalState(int index) {
+        return this.palette[this.originalStates[index]];
+    }
+
+    /**
+     * Gets the final block state of the transaction at the given index.
+     *
+     * @param index The transaction index
+     * @return The final block state
+     */
+    public BlockState getFinalState(int index) {
+        return this.palette[this.finalStates[index]];
+    }
+
+    /**
+     * Gets the palette the block state ids of this view refer to.
+     *
+     * @return The palette, not to be modified
+     */
+    public BlockState[] getPalette() {
+        return this.palette;
+    }
+
+    /**
+     * Gets the palette id of the original block state of the transaction at
+     * the given index.
+     *
+     * @param index The transaction index
+     * @return The palette id
+     */
+    public int getOriginalStateId(int index) {
+        return this.originalStates[index];
+    }
+
+    /**
+     * Gets the palette id of the final block state of the transaction at the
+     * given index.
+     *
+     * @param index The transaction index
+     * @return The palette id
+     */
+    public int getFinalStateId(int index) {
+        return this.finalStates[index];
+    }
+
+    /**
+     * Gets whether the transaction at the given index is valid.
+     *
+     * @param index The transaction index
+     * @return True if the transaction is valid
+     */
+    public boolean isValid(int index) {
+        final Transaction<BlockSnapshot> transaction = this.transactions[index];
+        return transaction != null ? transaction.isValid() : !this.invalid.get(index);
+    }
+
+    /**
+     * Sets whether the transaction at the given index is valid.
+     *
+     * @param index The transaction index
+     * @param valid Whether the transaction is valid
+     */
+    public void setValid(int index, boolean valid) {
+        this.invalid.set(index, !valid);
+        final Transaction<BlockSnapshot> transaction = this.transactions[index];
+        if (transaction != null) {
+            transaction.setValid(valid);
+        }
+    }
+
+    /**
+     * Gets the {@link Transaction} at the given index, creating it and its
+     * snapshots on first access.
+     *
+     * @param index The transaction index
+     * @return The transaction
+     */
+    public Transaction<BlockSnapshot> getTransaction(int index) {
+        checkElementIndex(index, this.transactions.length);
+        Transaction<BlockSnapshot> transaction = this.transactions[index];
+        if (transaction == null) {
+            transaction = this.materializer.apply(index);
+            transaction.setValid(!this.invalid.get(index));
+            this.transactions[index] = transaction;
+        }
+        return transaction;
+    }
+
+    /**
+     * Marks every transaction for which the predicate returns {@code false}
+     * on its position as invalid.
+     *
+     * @param predicate The position predicate
+     * @return The indices of the transactions invalidated by this call
+     */
+    public BitSet filter(PositionPredicate predicate) {
+        final BitSet invalidated = new BitSet();
+        for (int i = 0; i < this.positions.length; i++) {
+            final long position = this.positions[i];
+            if (isValid(i) && !predicate.test(this.worlds[i], unpackX(position), unpackY(position), unpackZ(position))) {
+                setValid(i, false);
+                invalidated.set(i);
+            }
+        }
+        return invalidated;
+    }
+
+    /**
+     * Marks every transaction for which the predicate returns {@code false}
+     * on its original block state as invalid. The predicate is evaluated once
+     * per distinct state.
+     *
+     * @param predicate The block state predicate
+     * @return The indices of the transactions invalidated by this call
+     */
+    public BitSet filterOriginalStates(Predicate<BlockState> predicate) {
+        return filterStates(this.originalStates, predicate);
+    }
+
+    /**
+     * Marks every transaction for which the predicate returns {@code false}
+     * on its final block state as invalid. The predicate is evaluated once
+     * per distinct state.
+     *
+     * @param predicate The block state predicate
+     * @return The indices of the transactions invalidated by this call
+     */
+    public BitSet filterFinalStates(Predicate<BlockState> predicate) {
+        return filterStates(this.finalStates, predicate);
+    }
+
+    private BitSet filterStates(int[] states, Predicate<BlockState> predicate) {
+        final boolean[] accepted = new boolean[this.palette.length];
+        for (int i = 0; i < this.palette.length; i++) {
+            accepted[i] = predicate.test(this.palette[i]);
+        }
+        final BitSet invalidated = new BitSet();
+        for (int i = 0; i < states.length; i++) {
+            if (!accepted[states[i]] && isValid(i)) {
+                setValid(i, false);
+                invalidated.set(i);
+            }
+        }
+        return invalidated;
+    }
+
+    /**
+     * Marks all transactions as invalid.
+     */
+    public void filterAll() {
+        this.invalid.set(0, this.positions.length);
+        for (Transaction<BlockSnapshot> transaction : this.transactions) {
+            if (transaction != null) {
+                transaction.setValid(false);
+            }
+        }
+    }
+
+    /**
+     * A predicate on block positions, taking the coordinates as primitives.
+     */
+    @FunctionalInterface
+    public interface PositionPredicate {
+
+        /**
+         * Evaluates this predicate on the given block position.
+         *
+         * @param world The world of the position
+         * @param x The x coordinate
+         * @param y The y coordinate
+         * @param z The z coordinate
+         * @return True if the position is accepted
+         */
+        boolean test(World world, int x, int y, int z);
+
+    }
+
+    /**
+     * Builds {@link BlockTransactionColumns}, assigning palette ids to block
+     * states as they are added.
+     */
+    public static final class Builder {
+
+        private World[] worlds;
+        private long[] positions;
+        private int[] originalStates;
+        private int[] finalStates;
+        private int size;
+        private final List<BlockState> palette = new ArrayList<>();
+        private final Map<BlockState, Integer> paletteIds = new HashMap<>();
+
+        Builder(int expectedSize) {
+            final int capacity = Math.max(expectedSize, 4);
+            this.worlds = new World[capacity];
+            this.positions = new long[capacity];
+            this.originalStates = new int[capacity];
+            this.finalStates = new int[capacity];
+        }
+
+        /**
+         * Adds a transaction.
+         *
+         * @param world The world the transaction takes place in
+         * @param x The x coordinate of the block
+         * @param y The y coordinate of the block
+         * @param z The z coordinate of the block
+         * @param originalState The original block state
+         * @param finalState The final block state
+         * @return This builder, for chaining
+         */
+        public Builder add(World world, int x, int y, int z, BlockState originalState, BlockState finalState) {
+            checkNotNull(world, "world");
+            if (this.size == this.positions.length) {
+                final int capacity = this.size * 2;
+                this.worlds = Arrays.copyOf(this.worlds, capacity);
+                this.positions = Arrays.copyOf(this.positions, capacity);
+                this.originalStates = Arrays.copyOf(this.originalStates, capacity);
+                this.finalStates = Arrays.copyOf(this.finalStates, capacity);
+            }
+            this.worlds[this.size] = world;
+            this.positions[this.size] = pack(x, y, z);
+            this.originalStates[this.size] = paletteId(originalState);
+            this.finalStates[this.size] = paletteId(finalState);
+            this.size++;
+            return this;
+        }
+
+        private int paletteId(BlockState state) {
+            checkNotNull(state, "state");
+            Integer id = this.paletteIds.get(state);
+            if (id == null) {
+                id = this.palette.size();
+                this.palette.add(state);
+                this.paletteIds.put(state, id);
+            }
+            return id;
+        }
+
+        /**
+         * Builds the columns.
+         *
+         * @param materializer Creates the transaction at a given index on
+         *     first access
+         * @return The columns
+         */
+        public BlockTransactionColumns build(IntFunction<Transaction<BlockSnapshot>> materializer) {
+            checkNotNull(materializer, "materializer");
+            return new BlockTransactionColumns(this, materializer);
+        }
+
+    }
+
+}
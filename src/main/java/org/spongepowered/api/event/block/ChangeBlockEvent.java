@@ -80,6 +80,27 @@ default List<Transaction<BlockSnapshot>> filter(Predicate<Location<World>> predi
         return invalidatedTransactions;
     }
 
+    /**
+     * Gets a {@link BlockTransactionColumns} view of the transactions of this
+     * event, allowing bulk filtering on positions and block states without
+     * touching the {@link BlockSnapshot}s of each {@link Transaction}.
+     *
+     * <p>Changes to the validity of transactions through the returned view
+     * are reflected in {@link #getTransactions()}.</p>
+     *
+     * <p>The default implementation builds new columns from
+     * {@link #getTransactions()} on every call, which is <code>O(n)</code>
+     * in the number of transactions. Callers should hold on to the returned
+     * view rather than requesting it repeatedly. Implementations should
+     * override this to build the columns at most once per event, ideally
+     * without creating the transactions until they are requested.</p>
+     *
+     * @return The columnar view of the transactions
+     */
+    default BlockTransactionColumns getTransactionColumns() {
+        return BlockTransactionColumns.of(this.getTransactions());
+    }
+
     /**
      * Invalidates the list as such that all {@link Transaction}s are
      * marked as "invalid" and will not apply post event.
@@ -30,6 +30,7 @@
 
 import com.google.common.base.Objects;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import org.spongepowered.api.util.ResettableBuilder;
 
 import java.util.ArrayList;
@@ -121,6 +122,8 @@ public static Cause of(EventContext ctx, Iterable<Object> iterable) {
 
     // lazy load
     @Nullable private ImmutableList<Object> immutableCauses;
+    // lazy load, copy on write so that racing readers always see a complete map
+    private ImmutableMap<Class<?>, int[]> typeIndex = ImmutableMap.of();
 
     /**
      * Constructs a new cause.
@@ -181,12 +184,11 @@ public Object root() {
      * @return The first element of the type, if available
      */
     public <T> Optional<T> first(Class<T> target) {
-        for (Object aCause : this.cause) {
-            if (target.isInstance(aCause)) {
-                return Optional.of((T) aCause);
-            }
+        final int[] indices = indicesOf(target);
+        if (indices.length == 0) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        return Optional.of((T) this.cause[indices[0]]);
     }
 
     /**
@@ -198,12 +200,11 @@ public <T> Optional<T> first(Class<T> target) {
      * @return The last element of the type, if available
      */
     public <T> Optional<T> last(Class<T> target) {
-        for (int i = this.cause.length - 1; i >= 0; i--) {
-            if (target.isInstance(this.cause[i])) {
-                return Optional.of((T) this.cause[i]);
-            }
+        final int[] indices = indicesOf(target);
+        if (indices.length == 0) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        return Optional.of((T) this.cause[indices[indices.length - 1]]);
     }
 
     /**
@@ -218,9 +219,9 @@ public Optional<?> before(Class<?> clazz) {
         if (this.cause.length == 1) {
             return Optional.empty();
         }
-        for (int i = 0; i < this.cause.length; i++) {
-            if (clazz.isInstance(this.cause[i]) && i > 0) {
-                return Optional.of(this.cause[i - 1]);
+        for (int index : indicesOf(clazz)) {
+            if (index > 0) {
+                return Optional.of(this.cause[index - 1]);
             }
         }
         return Optional.empty();
@@ -238,10 +239,10 @@ public Optional<?> after(Class<?> clazz) {
         if (this.cause.length == 1) {
             return Optional.empty();
         }
-        for (int i = 0; i < this.cause.length; i++) {
-            if (clazz.isInstance(this.cause[i]) && i + 1 < this.cause.length) {
-                return Optional.of(this.cause[i + 1]);
-            }
+        final int[] indices = indicesOf(clazz);
+        // Only the first match can have a successor that a later match lacks
+        if (indices.length > 0 && indices[0] + 1 < this.cause.length) {
+            return Optional.of(this.cause[indices[0] + 1]);
         }
         return Optional.empty();
     }
@@ -255,13 +256,7 @@ public Optional<?> after(Class<?> clazz) {
      */
     public boolean containsType(Class<?> target) {
         checkArgument(target != null, "The provided class cannot be null!");
-        for (Object aCause : this.cause) {
-            if (target.isInstance(aCause)) {
-                return true;
-            }
-        }
-
-        return false;
+        return indicesOf(target).length != 0;
     }
 
     /**
@@ -290,11 +285,13 @@ public boolean contains(Object object) {
      * @return An immutable list of the objects queried
      */
     public <T> List<T> allOf(Class<T> target) {
+        final int[] indices = indicesOf(target);
+        if (indices.length == 0) {
+            return ImmutableList.of();
+        }
         ImmutableList.Builder<T> builder = ImmutableList.builder();
-        for (Object aCause : this.cause) {
-            if (target.isInstance(aCause)) {
-                builder.add((T) aCause);
-            }
+        for (int index : indices) {
+            builder.add((T) this.cause[index]);
         }
         return builder.build();
     }
@@ -391,6 +388,38 @@ public Cause with(Cause cause) {
         return builder.build(this.context);
     }
 
+    /**
+     * Gets the positions of all objects in this cause that are instances of
+     * the given {@link Class}, in ascending order. The result is computed once
+     * per queried class and cached for the lifetime of this cause, which is
+     * safe as the cause array is never mutated.
+     *
+     * @param target The class of the target type
+     * @return The sorted positions of the matching objects, never modified
+     */
+    private int[] indicesOf(Class<?> target) {
+        final ImmutableMap<Class<?>, int[]> index = this.typeIndex;
+        final int[] cached = index.get(target);
+        if (cached != null) {
+            return cached;
+        }
+        int count = 0;
+        final int[] matches = new int[this.cause.length];
+        for (int i = 0; i < this.cause.length; i++) {
+            if (target.isInstance(this.cause[i])) {
+                matches[count++] = i;
+            }
+        }
+        final int[] indices = count == matches.length ? matches : Arrays.copyOf(matches, count);
+        // A concurrent lookup may drop another class' entry here, which only
+        // costs a rescan later on
+        this.typeIndex = ImmutableMap.<Class<?>, int[]>builder()
+                .putAll(index)
+                .put(target, indices)
+                .build();
+        return indices;
+    }
+
     @Override
     public Iterator<Object> iterator() {
         return new Itr();
@@ -28,9 +28,9 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Maps;
 import org.spongepowered.api.util.ResettableBuilder;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -42,10 +42,17 @@
 /**
  * Provides context for an event outside of the direct chain of causes present
  * in the event's {@link Cause}.
+ *
+ * <p>Values are stored in an array indexed by
+ * {@link EventContextKey#getOrdinal()}, so looking up a key is a single array
+ * load and copying a context is an array copy.</p>
  */
 public final class EventContext {
 
-    private static final EventContext EMPTY_CONTEXT = new EventContext(ImmutableMap.of());
+    private static final EventContextKey<?>[] NO_KEYS = new EventContextKey<?>[0];
+    private static final Object[] NO_VALUES = new Object[0];
+
+    private static final EventContext EMPTY_CONTEXT = new EventContext(NO_KEYS, NO_VALUES);
 
     /**
      * Gets an empty context.
@@ -64,10 +71,12 @@ public static EventContext empty() {
      */
     public static EventContext of(Map<EventContextKey<?>, Object> entries) {
         checkNotNull(entries, "Context entries cannot be null");
+        final Builder builder = builder();
         for (Map.Entry<EventContextKey<?>, Object> entry : entries.entrySet()) {
             checkNotNull(entry.getValue(), "Entries cannot contain null values");
+            builder.put(entry.getKey(), entry.getValue());
         }
-        return new EventContext(entries);
+        return builder.build();
     }
 
     /**
@@ -79,10 +88,16 @@ public static Builder builder() {
         return new Builder();
     }
 
-    private final Map<EventContextKey<?>, Object> entries;
+    // Both arrays are indexed by key ordinal and never modified
+    private final EventContextKey<?>[] keys;
+    private final Object[] values;
+
+    // lazy load
+    @Nullable private ImmutableMap<EventContextKey<?>, Object> entries;
 
-    EventContext(Map<EventContextKey<?>, Object> values) {
-        this.entries = ImmutableMap.copyOf(values);
+    EventContext(EventContextKey<?>[] keys, Object[] values) {
+        this.keys = keys;
+        this.values = values;
     }
 
     /**
@@ -95,7 +110,7 @@ public static Builder builder() {
     @SuppressWarnings("unchecked")
     public <T> Optional<T> get(EventContextKey<T> key) {
         checkNotNull(key, "EventContextKey cannot be null");
-        return Optional.ofNullable((T) this.entries.get(key));
+        return Optional.ofNullable((T) getValue(key));
     }
 
     /**
@@ -108,10 +123,12 @@ public <T> Optional<T> get(EventContextKey<T> key) {
      * @param <T> The type of the value stored with the key
      * @return The context value, if found
      */
+    @SuppressWarnings("unchecked")
     public <T> T require(EventContextKey<T> key) {
-        final Optional<T> optional = get(key);
-        if (optional.isPresent()) {
-            return optional.get();
+        checkNotNull(key, "EventContextKey cannot be null");
+        final Object value = getValue(key);
+        if (value != null) {
+            return (T) value;
         }
         throw new NoSuchElementException(String.format("Could not retrieve value for key '%s'", key.getId()));
     }
@@ -123,8 +140,8 @@ public <T> T require(EventContextKey<T> key) {
      * @param key The context key to check
      * @return True if the key is used and there is an entry for it
      */
-    public boolean containsKey(EventContextKey<?> key) {
-        return this.entries.containsKey(key);
+    public boolean containsKey(@Nullable EventContextKey<?> key) {
+        return key != null && getValue(key) != null;
     }
 
     /**
@@ -133,7 +150,7 @@ public boolean containsKey(EventContextKey<?> key) {
      * @return All present keys
      */
     public Set<EventContextKey<?>> keySet() {
-        return this.entries.keySet();
+        return asMap().keySet();
     }
 
     /**
@@ -142,9 +159,27 @@ public Set<EventContextKey<?>> keySet() {
      * @return A map view of this context
      */
     public Map<EventContextKey<?>, Object> asMap() {
+        if (this.entries == null) {
+            final ImmutableMap.Builder<EventContextKey<?>, Object> builder = ImmutableMap.builder();
+            for (int i = 0; i < this.keys.length; i++) {
+                if (this.keys[i] != null) {
+                    builder.put(this.keys[i], this.values[i]);
+                }
+            }
+            this.entries = builder.build();
+        }
         return this.entries;
     }
 
+    @Nullable
+    private Object getValue(EventContextKey<?> key) {
+        final int ordinal = key.getOrdinal();
+        if (ordinal >= this.keys.length || !key.equals(this.keys[ordinal])) {
+            return null;
+        }
+        return this.values[ordinal];
+    }
+
     @Override
     public boolean equals(@Nullable Object object) {
         if (object == this) {
@@ -154,12 +189,15 @@ public boolean equals(@Nullable Object object) {
             return false;
         }
         EventContext ctx = (EventContext) object;
-        for (Map.Entry<EventContextKey<?>, Object> entry : this.entries.entrySet()) {
-            Object other = ctx.entries.get(entry.getKey());
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] == null) {
+                continue;
+            }
+            Object other = ctx.getValue(this.keys[i]);
             if (other == null) {
                 return false;
             }
-            if (!entry.getValue().equals(other)) {
+            if (!this.values[i].equals(other)) {
                 return false;
             }
         }
@@ -168,21 +206,32 @@ public boolean equals(@Nullable Object object) {
 
     @Override
     public int hashCode() {
-        return this.entries.hashCode();
+        // Matches the hash code of asMap()
+        int hash = 0;
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != null) {
+                hash += this.keys[i].hashCode() ^ this.values[i].hashCode();
+            }
+        }
+        return hash;
     }
 
     @Override
     public String toString() {
         StringJoiner joiner = new StringJoiner(", ");
-        for (Map.Entry<EventContextKey<?>, Object> entry : this.entries.entrySet()) {
-            joiner.add("\"" + entry.getKey().getId() + "\"=" + entry.getValue().toString());
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != null) {
+                joiner.add("\"" + this.keys[i].getId() + "\"=" + this.values[i].toString());
+            }
         }
         return "Context[" + joiner.toString() + "]";
     }
 
     public static final class Builder implements ResettableBuilder<EventContext, Builder> {
 
-        private final Map<EventContextKey<?>, Object> entries = Maps.newHashMap();
+        private EventContextKey<?>[] keys = NO_KEYS;
+        private Object[] values = NO_VALUES;
+        private int size;
 
         Builder() {
 
@@ -198,20 +247,44 @@ public static final class Builder implements ResettableBuilder<EventContext, Bui
          */
         public <T> Builder add(EventContextKey<T> key, T value) {
             checkNotNull(value, "Context object cannot be null");
-            checkArgument(!this.entries.containsKey(key), "Duplicate context keys");
-            this.entries.put(key, value);
+            put(key, value);
             return this;
         }
 
+        void put(EventContextKey<?> key, Object value) {
+            checkNotNull(key, "EventContextKey cannot be null");
+            final int ordinal = key.getOrdinal();
+            checkArgument(ordinal >= 0, "Negative context key ordinal: %s", ordinal);
+            if (ordinal >= this.keys.length) {
+                final int length = Math.max(ordinal + 1, this.keys.length * 2);
+                this.keys = Arrays.copyOf(this.keys, length);
+                this.values = Arrays.copyOf(this.values, length);
+            }
+            checkArgument(this.keys[ordinal] == null, "Duplicate context keys");
+            this.keys[ordinal] = key;
+            this.values[ordinal] = value;
+            this.size++;
+        }
+
         @Override
         public Builder from(EventContext value) {
-            this.entries.putAll(value.entries);
+            for (int i = 0; i < value.keys.length; i++) {
+                if (value.keys[i] != null) {
+                    if (this.keys.length <= i || this.keys[i] == null) {
+                        put(value.keys[i], value.values[i]);
+                    } else {
+                        this.values[i] = value.values[i];
+                    }
+                }
+            }
             return this;
         }
 
         @Override
         public Builder reset() {
-            this.entries.clear();
+            Arrays.fill(this.keys, null);
+            Arrays.fill(this.values, null);
+            this.size = 0;
             return this;
         }
 
@@ -221,7 +294,15 @@ public Builder reset() {
          * @return The EventContext
          */
         public EventContext build() {
-            return new EventContext(this.entries);
+            if (this.size == 0) {
+                return EMPTY_CONTEXT;
+            }
+            // Trim trailing unused ordinals so that the context stays small
+            int length = this.keys.length;
+            while (this.keys[length - 1] == null) {
+                length--;
+            }
+            return new EventContext(Arrays.copyOf(this.keys, length), Arrays.copyOf(this.values, length));
         }
 
     }
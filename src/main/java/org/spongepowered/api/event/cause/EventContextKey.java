@@ -56,6 +56,16 @@ static <T> Builder<T> builder(Class<T> clazz) {
      */
     Class<T> getAllowedType();
 
+    /**
+     * Gets the ordinal of this key. Ordinals are assigned when a key is
+     * registered, are unique among all registered keys and are allocated
+     * densely from zero, which allows an {@link EventContext} to store its
+     * values in a small array indexed by ordinal.
+     *
+     * @return The ordinal of this key
+     */
+    int getOrdinal();
+
     interface Builder<T> extends ResettableBuilder<EventContextKey<T>, Builder<T>> {
 
         Builder<T> type(Class<T> tClass);
@@ -0,0 +1,77 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event.filter;
+
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.event.entity.MoveEntityEvent;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Reduces the {@link MoveEntityEvent}s delivered to the annotated listener
+ * according to the specified {@link Mode}.
+ *
+ * <p>Cancelling a delivered event returns the {@link Entity} to the
+ * {@link MoveEntityEvent#getFromTransform() from transform} of that event,
+ * and setting its {@link MoveEntityEvent#setToTransform to transform} moves
+ * the entity there, exactly as with an event that was not reduced.
+ * {@link MoveEntityEvent.Teleport} events are always delivered
+ * individually.</p>
+ *
+ * <p>The event type of the annotated event listener <strong>MUST</strong> be
+ * {@link MoveEntityEvent}.</p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CoalesceMovement {
+
+    /**
+     * Gets how movements are reduced for the annotated listener.
+     *
+     * @return The coalescing mode
+     */
+    Mode value() default Mode.TICK;
+
+    enum Mode {
+
+        /**
+         * Delivers at most one event per entity per tick, spanning from the
+         * transform the entity had before its first movement in that tick to
+         * the transform after its last one.
+         */
+        TICK,
+
+        /**
+         * Only delivers movements which change the block position of the
+         * entity.
+         */
+        BLOCK
+
+    }
+
+}
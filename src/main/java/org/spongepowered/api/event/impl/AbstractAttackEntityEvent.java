@@ -27,16 +27,13 @@
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import com.google.common.collect.ImmutableList;
 import org.spongepowered.api.event.cause.entity.ModifierFunction;
 import org.spongepowered.api.event.cause.entity.damage.DamageFunction;
 import org.spongepowered.api.event.cause.entity.damage.DamageModifier;
 import org.spongepowered.api.event.cause.entity.damage.DamageModifierType;
 import org.spongepowered.api.event.entity.AttackEntityEvent;
-import org.spongepowered.api.util.Tuple;
 import org.spongepowered.api.util.annotation.eventgen.UseField;
 
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -58,12 +55,11 @@ protected final void init() {
     @Override
     public final double getOriginalModifierDamage(DamageModifier damageModifier) {
         checkArgument(damageModifier != null, "The damage modifier cannot be null!");
-        for (Tuple<DamageModifier, Double> tuple : this.originalModifiers) {
-            if (tuple.getFirst().equals(damageModifier)) {
-                return tuple.getSecond();
-            }
+        final int index = this.indexOfOriginal(damageModifier);
+        if (index == -1) {
+            throw new IllegalArgumentException("The provided damage modifier is not applicable: " + damageModifier.toString());
         }
-        throw new IllegalArgumentException("The provided damage modifier is not applicable: " + damageModifier.toString());
+        return this.originalAmounts[index];
     }
 
     @Override
@@ -73,48 +69,31 @@ public final double getOriginalFinalDamage() {
 
     @Override
     public final Map<DamageModifier, Double> getOriginalDamages() {
-
-        return this.originalModifierMap;
+        return this.getOriginalModifierMap();
     }
 
     @Override
     public final double getFinalOutputDamage() {
-        return this.getFinalAmount(this.baseDamage);
+        return this.getFinalAmount();
     }
 
     @Override
     public final boolean isModifierApplicable(DamageModifier damageModifier) {
-        return this.modifiers.containsKey(checkNotNull(damageModifier));
+        return this.indexOf(checkNotNull(damageModifier)) != -1;
     }
 
     @Override
     public final double getOutputDamage(DamageModifier damageModifier) {
-        checkArgument(this.modifiers.containsKey(checkNotNull(damageModifier)), "The provided damage modifier is not applicable : "
-                                                                                + damageModifier.toString());
-        return this.modifiers.get(checkNotNull(damageModifier));
+        final int index = this.indexOf(checkNotNull(damageModifier));
+        checkArgument(index != -1, "The provided damage modifier is not applicable : " + damageModifier.toString());
+        return this.amounts[index];
     }
 
     @Override
     public final void setOutputDamage(DamageModifier damageModifier, DoubleUnaryOperator function) {
         checkNotNull(damageModifier, "Damage modifier was null!");
         checkNotNull(function, "Function was null!");
-        int indexToAddTo = 0;
-        boolean addAtEnd = true;
-        for (Iterator<DamageFunction> iterator = this.modifierFunctions.iterator(); iterator.hasNext(); ) {
-            ModifierFunction<DamageModifier> tuple = iterator.next();
-            if (tuple.getModifier().equals(damageModifier)) {
-                iterator.remove();
-                addAtEnd = false;
-                break;
-            }
-            indexToAddTo++;
-        }
-        if (addAtEnd) {
-            this.modifierFunctions.add(new DamageFunction(damageModifier, function));
-        } else {
-            this.modifierFunctions.add(indexToAddTo, new DamageFunction(damageModifier, function));
-        }
-        this.recalculateDamages(this.baseDamage);
+        this.setModifierFunction(new DamageFunction(damageModifier, function));
     }
 
     @Override
@@ -132,11 +111,9 @@ public void addDamageModifierBefore(DamageModifier damageModifier, DoubleUnaryOp
 
         }
         if (indexToAddBefore == -1) {
-            this.modifierFunctions.add(new DamageFunction(damageModifier, function));
-        } else {
-            this.modifierFunctions.add(indexToAddBefore, new DamageFunction(damageModifier, function));
+            indexToAddBefore = this.modifierFunctions.size();
         }
-        this.recalculateDamages(this.baseDamage);
+        this.insertModifierFunction(indexToAddBefore, new DamageFunction(damageModifier, function));
     }
 
     @Override
@@ -153,12 +130,8 @@ public void addDamageModifierAfter(DamageModifier damageModifier, DoubleUnaryOpe
             index++;
 
         }
-        if (indexToAddAfter == -1) {
-            this.modifierFunctions.add(new DamageFunction(damageModifier, function));
-        } else {
-            this.modifierFunctions.add(indexToAddAfter + 1, new DamageFunction(damageModifier, function));
-        }
-        this.recalculateDamages(this.baseDamage);
+        this.insertModifierFunction(indexToAddAfter == -1 ? this.modifierFunctions.size() : indexToAddAfter + 1,
+                new DamageFunction(damageModifier, function));
     }
 
     @Override
@@ -176,17 +149,4 @@ public final void setBaseOutputDamage(double baseDamage) {
     protected DamageFunction convertTuple(DamageModifier obj, DoubleUnaryOperator function) {
         return new DamageFunction(obj, function);
     }
-
-    @Override
-    public List<DamageFunction> getModifiers() {
-        ImmutableList.Builder<DamageFunction> builder = ImmutableList.builder();
-        for (ModifierFunction<DamageModifier> entry : this.modifierFunctions) {
-            if (entry instanceof DamageFunction) {
-                builder.add((DamageFunction) entry);
-            } else {
-                builder.add(new DamageFunction(entry.getModifier(), entry.getFunction()));
-            }
-        }
-        return builder.build();
-    }
 }
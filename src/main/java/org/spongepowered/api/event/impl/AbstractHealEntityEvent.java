@@ -27,13 +27,11 @@
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import org.spongepowered.api.event.cause.entity.ModifierFunction;
 import org.spongepowered.api.event.cause.entity.health.HealthFunction;
 import org.spongepowered.api.event.cause.entity.health.HealthModifier;
 import org.spongepowered.api.event.entity.HealEntityEvent;
 import org.spongepowered.api.util.annotation.eventgen.UseField;
 
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.function.DoubleUnaryOperator;
@@ -52,9 +50,9 @@ protected final void init() {
 
     @Override
     public final double getOriginalHealingModifierAmount(HealthModifier healthModifier) {
-        checkArgument(this.originalModifierMap.containsKey(checkNotNull(healthModifier)), "The provided damage modifier is not applicable : "
-                                                                                          + healthModifier.toString());
-        return this.originalModifierMap.get(checkNotNull(healthModifier));
+        final int index = this.indexOfOriginal(checkNotNull(healthModifier));
+        checkArgument(index != -1, "The provided damage modifier is not applicable : " + healthModifier.toString());
+        return this.originalAmounts[index];
     }
 
     @Override
@@ -64,47 +62,31 @@ public final double getOriginalFinalHealAmount() {
 
     @Override
     public final Map<HealthModifier, Double> getOriginalHealingAmounts() {
-        return this.originalModifierMap;
+        return this.getOriginalModifierMap();
     }
 
     @Override
     public final double getFinalHealAmount() {
-        return this.getFinalAmount(this.baseHealAmount);
+        return this.getFinalAmount();
     }
 
     @Override
     public final boolean isModifierApplicable(HealthModifier healthModifier) {
-        return this.modifiers.containsKey(checkNotNull(healthModifier));
+        return this.indexOf(checkNotNull(healthModifier)) != -1;
     }
 
     @Override
     public final double getHealAmount(HealthModifier healthModifier) {
-        checkArgument(this.modifiers.containsKey(checkNotNull(healthModifier)), "The provided damage modifier is not applicable : "
-                                                                                + healthModifier.toString());
-        return this.modifiers.get(checkNotNull(healthModifier));
+        final int index = this.indexOf(checkNotNull(healthModifier));
+        checkArgument(index != -1, "The provided damage modifier is not applicable : " + healthModifier.toString());
+        return this.amounts[index];
     }
 
     @Override
     public final void setHealAmount(HealthModifier healthModifier, DoubleUnaryOperator function) {
         checkNotNull(healthModifier, "Damage modifier was null!");
         checkNotNull(function, "Function was null!");
-        int indexToAddTo = 0;
-        boolean addAtEnd = true;
-        for (Iterator<HealthFunction> iterator = this.modifierFunctions.iterator(); iterator.hasNext(); ) {
-            ModifierFunction<HealthModifier> tuple = iterator.next();
-            if (tuple.getModifier().equals(healthModifier)) {
-                iterator.remove();
-                addAtEnd = false;
-                break;
-            }
-            indexToAddTo++;
-        }
-        if (addAtEnd) {
-            this.modifierFunctions.add(new HealthFunction(healthModifier, function));
-        } else {
-            this.modifierFunctions.add(indexToAddTo, new HealthFunction(healthModifier, function));
-        }
-        this.recalculateDamages(this.baseHealAmount);
+        this.setModifierFunction(new HealthFunction(healthModifier, function));
     }
 
     @Override
@@ -24,83 +24,188 @@
  */
 package org.spongepowered.api.event.impl;
 
-import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkArgument;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Maps;
 import org.spongepowered.api.event.cause.entity.ModifierFunction;
 import org.spongepowered.api.event.entity.DamageEntityEvent;
 import org.spongepowered.api.event.entity.HealEntityEvent;
-import org.spongepowered.api.util.Tuple;
 
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.DoubleUnaryOperator;
 
+import javax.annotation.Nullable;
+
 /**
  * An abstract base class for implementations of {@link DamageEntityEvent} and {@link HealEntityEvent}.
  *
+ * <p>The amount produced by each modifier function is kept in primitive
+ * arrays next to the amount the function was applied to. Changing a
+ * modifier only re-evaluates that modifier and the ones after it, as the
+ * input of every earlier modifier is unaffected.</p>
+ *
  * @param <T> The modifier type to use
  */
 public abstract class AbstractModifierEvent<T extends ModifierFunction<M>, M> extends AbstractEvent {
 
+    private static final double[] NO_AMOUNTS = new double[0];
+
     protected double originalFinalAmount;
-    protected List<Tuple<M, Double>> originalModifiers;
-    protected Map<M, Double> originalModifierMap;
-    protected final LinkedHashMap<M, Double> modifiers = Maps.newLinkedHashMap();
+    protected double[] originalAmounts = NO_AMOUNTS;
     protected final List<T> modifierFunctions = new ArrayList<>();
 
+    // amounts[i] is the result of modifier function i, inputs[i] the amount
+    // it was applied to and inputs[size] the final amount
+    protected double[] amounts = NO_AMOUNTS;
+    protected double[] inputs = new double[1];
+
+    private ImmutableList<T> originalFunctionList = ImmutableList.of();
+    @Nullable private Map<M, Double> originalModifierMap;
+    @Nullable private ImmutableList<T> modifierList;
+
     protected ImmutableList<T> init(double originalValue, List<T> originalFunctions) {
-        final ImmutableList.Builder<Tuple<M, Double>> modifierMapBuilder = ImmutableList.builder();
+        final int size = originalFunctions.size();
         final ImmutableList.Builder<T> functionListBuilder = ImmutableList.builder();
-        final ImmutableMap.Builder<M, Double> mapBuilder = ImmutableMap.builder();
-        double finalDamage = originalValue;
+        this.originalAmounts = new double[size];
+        this.amounts = new double[size];
+        this.inputs = new double[size + 1];
+        double finalAmount = originalValue;
+        int index = 0;
         for (T tuple : originalFunctions) {
-            this.modifierFunctions.add(convertTuple(tuple.getModifier(), tuple.getFunction()));
-            double tempDamage = checkNotNull(tuple.getFunction().applyAsDouble(finalDamage));
-            finalDamage += tempDamage;
-            modifierMapBuilder.add(new Tuple<>(tuple.getModifier(), tempDamage));
-            mapBuilder.put(tuple.getModifier(), tempDamage);
-            this.modifiers.put(tuple.getModifier(), tempDamage);
-            functionListBuilder.add(convertTuple(tuple.getModifier(), tuple.getFunction()));
+            checkArgument(indexOf(tuple.getModifier()) == -1, "Duplicate modifier: %s", tuple.getModifier());
+            final T function = convertTuple(tuple.getModifier(), tuple.getFunction());
+            this.modifierFunctions.add(function);
+            functionListBuilder.add(function);
+            final double amount = tuple.getFunction().applyAsDouble(finalAmount);
+            this.inputs[index] = finalAmount;
+            this.amounts[index] = amount;
+            this.originalAmounts[index] = amount;
+            finalAmount += amount;
+            index++;
         }
-        this.originalFinalAmount = finalDamage;
-        this.originalModifiers = modifierMapBuilder.build();
-        this.originalModifierMap = mapBuilder.build();
-        return functionListBuilder.build();
+        this.inputs[size] = finalAmount;
+        this.originalFinalAmount = finalAmount;
+        this.originalFunctionList = functionListBuilder.build();
+        return this.originalFunctionList;
     }
 
     protected abstract T convertTuple(M obj, DoubleUnaryOperator function);
 
+    /**
+     * Re-evaluates all modifier functions against a new base amount.
+     *
+     * @param baseAmount The new base amount
+     */
     protected void recalculateDamages(double baseAmount) {
-        double tempAmount = baseAmount;
-        this.modifiers.clear();
-        for (T entry : this.modifierFunctions) {
-            double modifierAmount = checkNotNull(entry.getFunction().applyAsDouble(tempAmount));
-            if (this.modifiers.containsKey(entry.getModifier())) {
-                double oldAmount = this.modifiers.get(entry.getModifier());
-                double difference = oldAmount - modifierAmount;
-                if (oldAmount > 0) {
-                    this.modifiers.put(entry.getModifier(), Math.max(0, oldAmount - difference));
-                } else {
-                    this.modifiers.put(entry.getModifier(), Math.min(0, oldAmount - difference));
-                }
-            } else {
-                this.modifiers.put(entry.getModifier(), modifierAmount);
+        this.inputs[0] = baseAmount;
+        recalculateFrom(0);
+    }
+
+    /**
+     * Re-evaluates the modifier function at the given index and all functions
+     * after it, the results of earlier functions are left untouched.
+     *
+     * @param index The index of the first changed function
+     */
+    protected void recalculateFrom(int index) {
+        final int size = this.modifierFunctions.size();
+        double amount = this.inputs[index];
+        for (int i = index; i < size; i++) {
+            final double modifierAmount = this.modifierFunctions.get(i).getFunction().applyAsDouble(amount);
+            this.inputs[i] = amount;
+            this.amounts[i] = modifierAmount;
+            amount += modifierAmount;
+        }
+        this.inputs[size] = amount;
+    }
+
+    /**
+     * Replaces the function of the given modifier, or appends it if the
+     * modifier isn't applicable yet, and recalculates the amounts affected by
+     * the change.
+     *
+     * @param function The new modifier function
+     */
+    protected void setModifierFunction(T function) {
+        final int index = indexOf(function.getModifier());
+        if (index == -1) {
+            insertModifierFunction(this.modifierFunctions.size(), function);
+        } else {
+            this.modifierFunctions.set(index, function);
+            this.modifierList = null;
+            recalculateFrom(index);
+        }
+    }
+
+    /**
+     * Inserts a modifier function at the given index and recalculates the
+     * amounts affected by the change.
+     *
+     * @param index The index to insert at
+     * @param function The modifier function
+     */
+    protected void insertModifierFunction(int index, T function) {
+        final int size = this.modifierFunctions.size();
+        this.modifierFunctions.add(index, function);
+        final double[] amounts = new double[size + 1];
+        final double[] inputs = new double[size + 2];
+        System.arraycopy(this.amounts, 0, amounts, 0, index);
+        System.arraycopy(this.amounts, index, amounts, index + 1, size - index);
+        // The input of the new function is the input of the function it was inserted before
+        System.arraycopy(this.inputs, 0, inputs, 0, index + 1);
+        System.arraycopy(this.inputs, index, inputs, index + 1, size + 1 - index);
+        this.amounts = amounts;
+        this.inputs = inputs;
+        this.modifierList = null;
+        recalculateFrom(index);
+    }
+
+    /**
+     * Gets the index of the function of the given modifier.
+     *
+     * @param modifier The modifier
+     * @return The index, or -1 if the modifier isn't applicable
+     */
+    protected int indexOf(M modifier) {
+        for (int i = 0; i < this.modifierFunctions.size(); i++) {
+            if (this.modifierFunctions.get(i).getModifier().equals(modifier)) {
+                return i;
             }
-            tempAmount += modifierAmount;
         }
+        return -1;
     }
 
-    protected double getFinalAmount(double baseAmount) {
-        double damage = baseAmount;
-        for (T entry : this.modifierFunctions) {
-            damage += checkNotNull(entry.getFunction().applyAsDouble(damage));
+    /**
+     * Gets the index of the original function of the given modifier.
+     *
+     * @param modifier The modifier
+     * @return The index, or -1 if the modifier wasn't originally applicable
+     */
+    protected int indexOfOriginal(M modifier) {
+        for (int i = 0; i < this.originalFunctionList.size(); i++) {
+            if (this.originalFunctionList.get(i).getModifier().equals(modifier)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    protected Map<M, Double> getOriginalModifierMap() {
+        if (this.originalModifierMap == null) {
+            final ImmutableMap.Builder<M, Double> mapBuilder = ImmutableMap.builder();
+            for (int i = 0; i < this.originalFunctionList.size(); i++) {
+                mapBuilder.put(this.originalFunctionList.get(i).getModifier(), this.originalAmounts[i]);
+            }
+            this.originalModifierMap = mapBuilder.build();
         }
-        return damage;
+        return this.originalModifierMap;
+    }
+
+    protected double getFinalAmount() {
+        return this.inputs[this.modifierFunctions.size()];
     }
 
     /**
@@ -109,10 +214,9 @@ protected double getFinalAmount(double baseAmount) {
      * @return The list of modifiers
      */
     public List<T> getModifiers() {
-        ImmutableList.Builder<T> builder = ImmutableList.builder();
-        for (T entry : this.modifierFunctions) {
-            builder.add(entry);
+        if (this.modifierList == null) {
+            this.modifierList = ImmutableList.copyOf(this.modifierFunctions);
         }
-        return builder.build();
+        return this.modifierList;
     }
 }
@@ -24,13 +24,16 @@
  */
 package org.spongepowered.api.world.extent.worker;
 
+import com.flowpowered.math.vector.Vector3i;
 import org.spongepowered.api.world.extent.BiomeVolume;
+import org.spongepowered.api.world.extent.ExtentBufferFactory;
 import org.spongepowered.api.world.extent.MutableBiomeVolume;
 import org.spongepowered.api.world.extent.worker.procedure.BiomeVolumeMapper;
 import org.spongepowered.api.world.extent.worker.procedure.BiomeVolumeMerger;
 import org.spongepowered.api.world.extent.worker.procedure.BiomeVolumeReducer;
 import org.spongepowered.api.world.extent.worker.procedure.BiomeVolumeVisitor;
 
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 
 /**
@@ -90,4 +93,35 @@
      */
     <T> T reduce(BiomeVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T identity);
 
+    /**
+     * Gets a worker for the same volume that runs its operations
+     * concurrently in the {@link ForkJoinPool#commonPool() common pool}, see
+     * {@link #parallel(ForkJoinPool)}.
+     *
+     * @return The parallel worker
+     */
+    default BiomeVolumeWorker<V> parallel() {
+        return parallel(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Gets a worker for the same volume that runs its operations
+     * concurrently in the given pool. The volume is split into sub-volumes
+     * aligned on 16x16x16 chunk sections, which are worked on in parallel.
+     *
+     * <p>The procedures are called from multiple threads at once, so both
+     * they and the volumes worked on have to be thread-safe. Destination
+     * volumes can for example be created with
+     * {@link ExtentBufferFactory#createThreadSafeBiomeBuffer(Vector3i)}. For
+     * {@link #reduce(BiomeVolumeReducer, BiFunction, Object)} every section
+     * starts from the identity, and the results of the sections are merged
+     * in order.</p>
+     *
+     * @param pool The pool to run the operations in
+     * @return The parallel worker
+     */
+    default BiomeVolumeWorker<V> parallel(ForkJoinPool pool) {
+        return new ParallelBiomeVolumeWorker<>(getVolume(), pool);
+    }
+
 }
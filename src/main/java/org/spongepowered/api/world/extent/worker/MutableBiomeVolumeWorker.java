@@ -30,6 +30,8 @@
 import org.spongepowered.api.world.extent.worker.procedure.BiomeVolumeMapper;
 import org.spongepowered.api.world.extent.worker.procedure.BiomeVolumeMerger;
 
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * Similar to {@link BiomeVolumeWorker} but adds support for mutating the backing
  * volume.
@@ -72,4 +74,14 @@ default void merge(BiomeVolume right, BiomeVolumeMerger merger) {
      */
     void fill(BiomeVolumeFiller filler);
 
+    @Override
+    default MutableBiomeVolumeWorker<A> parallel() {
+        return parallel(ForkJoinPool.commonPool());
+    }
+
+    @Override
+    default MutableBiomeVolumeWorker<A> parallel(ForkJoinPool pool) {
+        return new ParallelMutableBiomeVolumeWorker<>(getVolume(), pool);
+    }
+
 }
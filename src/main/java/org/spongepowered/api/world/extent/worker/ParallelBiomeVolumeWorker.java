@@ -0,0 +1,117 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.worker;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.world.extent.BiomeVolume;
+import org.spongepowered.api.world.extent.MutableBiomeVolume;
+import org.spongepowered.api.world.extent.UnmodifiableBiomeVolume;
+import org.spongepowered.api.world.extent.worker.procedure.BiomeVolumeMapper;
+import org.spongepowered.api.world.extent.worker.procedure.BiomeVolumeMerger;
+import org.spongepowered.api.world.extent.worker.procedure.BiomeVolumeReducer;
+import org.spongepowered.api.world.extent.worker.procedure.BiomeVolumeVisitor;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+
+/**
+ * A {@link BiomeVolumeWorker} running its operations concurrently on the
+ * section aligned sub-volumes of its volume, see
+ * {@link BiomeVolumeWorker#parallel(ForkJoinPool)}.
+ *
+ * @param <V> The type of volume being worked on
+ */
+class ParallelBiomeVolumeWorker<V extends BiomeVolume> implements BiomeVolumeWorker<V> {
+
+    final V volume;
+    final ForkJoinPool pool;
+
+    ParallelBiomeVolumeWorker(V volume, ForkJoinPool pool) {
+        this.volume = checkNotNull(volume, "volume");
+        this.pool = checkNotNull(pool, "pool");
+    }
+
+    @Override
+    public V getVolume() {
+        return this.volume;
+    }
+
+    @Override
+    public void map(BiomeVolumeMapper mapper, MutableBiomeVolume destination) {
+        checkNotNull(mapper, "mapper");
+        final UnmodifiableBiomeVolume unmodifiableVolume = this.volume.getUnmodifiableBiomeView();
+        final Vector3i offset = checkNotNull(destination, "destination").getBiomeMin().sub(this.volume.getBiomeMin());
+        final int xOffset = offset.getX();
+        final int yOffset = offset.getY();
+        final int zOffset = offset.getZ();
+        SectionTask.invoke(this.pool, this.volume.getBiomeMin(), this.volume.getBiomeMax(), (x, y, z) ->
+                destination.setBiome(x + xOffset, y + yOffset, z + zOffset, mapper.map(unmodifiableVolume, x, y, z)));
+    }
+
+    @Override
+    public void merge(BiomeVolume second, BiomeVolumeMerger merger, MutableBiomeVolume destination) {
+        checkNotNull(merger, "merger");
+        final UnmodifiableBiomeVolume firstVolume = this.volume.getUnmodifiableBiomeView();
+        final UnmodifiableBiomeVolume secondVolume = checkNotNull(second, "second").getUnmodifiableBiomeView();
+        final Vector3i secondOffset = second.getBiomeMin().sub(this.volume.getBiomeMin());
+        final Vector3i offset = checkNotNull(destination, "destination").getBiomeMin().sub(this.volume.getBiomeMin());
+        final int xSecond = secondOffset.getX();
+        final int ySecond = secondOffset.getY();
+        final int zSecond = secondOffset.getZ();
+        final int xOffset = offset.getX();
+        final int yOffset = offset.getY();
+        final int zOffset = offset.getZ();
+        SectionTask.invoke(this.pool, this.volume.getBiomeMin(), this.volume.getBiomeMax(), (x, y, z) ->
+                destination.setBiome(x + xOffset, y + yOffset, z + zOffset,
+                        merger.merge(firstVolume, x, y, z, secondVolume, x + xSecond, y + ySecond, z + zSecond)));
+    }
+
+    @Override
+    public void iterate(BiomeVolumeVisitor<V> visitor) {
+        checkNotNull(visitor, "visitor");
+        SectionTask.invoke(this.pool, this.volume.getBiomeMin(), this.volume.getBiomeMax(), (x, y, z) -> visitor.visit(this.volume, x, y, z));
+    }
+
+    @Override
+    public <T> T reduce(BiomeVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T identity) {
+        checkNotNull(reducer, "reducer");
+        checkNotNull(merge, "merge");
+        final UnmodifiableBiomeVolume unmodifiableVolume = this.volume.getUnmodifiableBiomeView();
+        return SectionTask.invoke(this.pool, this.volume.getBiomeMin(), this.volume.getBiomeMax(), (xMin, yMin, zMin, xMax, yMax, zMax) -> {
+            T reduction = identity;
+            for (int y = yMin; y <= yMax; y++) {
+                for (int z = zMin; z <= zMax; z++) {
+                    for (int x = xMin; x <= xMax; x++) {
+                        reduction = reducer.reduce(unmodifiableVolume, x, y, z, reduction);
+                    }
+                }
+            }
+            return reduction;
+        }, merge::apply);
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.worker;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMapper;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMerger;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeReducer;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeVisitor;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+
+/**
+ * A {@link BlockVolumeWorker} running its operations concurrently on the
+ * section aligned sub-volumes of its volume, see
+ * {@link BlockVolumeWorker#parallel(ForkJoinPool)}.
+ *
+ * @param <V> The type of volume being worked on
+ */
+class ParallelBlockVolumeWorker<V extends BlockVolume> implements BlockVolumeWorker<V> {
+
+    final V volume;
+    final ForkJoinPool pool;
+
+    ParallelBlockVolumeWorker(V volume, ForkJoinPool pool) {
+        this.volume = checkNotNull(volume, "volume");
+        this.pool = checkNotNull(pool, "pool");
+    }
+
+    @Override
+    public V getVolume() {
+        return this.volume;
+    }
+
+    @Override
+    public void map(BlockVolumeMapper mapper, MutableBlockVolume destination) {
+        checkNotNull(mapper, "mapper");
+        final UnmodifiableBlockVolume unmodifiableVolume = this.volume.getUnmodifiableBlockView();
+        final Vector3i offset = checkNotNull(destination, "destination").getBlockMin().sub(this.volume.getBlockMin());
+        final int xOffset = offset.getX();
+        final int yOffset = offset.getY();
+        final int zOffset = offset.getZ();
+        SectionTask.invoke(this.pool, this.volume.getBlockMin(), this.volume.getBlockMax(), (x, y, z) ->
+                destination.setBlock(x + xOffset, y + yOffset, z + zOffset, mapper.map(unmodifiableVolume, x, y, z)));
+    }
+
+    @Override
+    public void merge(BlockVolume second, BlockVolumeMerger merger, MutableBlockVolume destination) {
+        checkNotNull(merger, "merger");
+        final UnmodifiableBlockVolume firstVolume = this.volume.getUnmodifiableBlockView();
+        final UnmodifiableBlockVolume secondVolume = checkNotNull(second, "second").getUnmodifiableBlockView();
+        final Vector3i secondOffset = second.getBlockMin().sub(this.volume.getBlockMin());
+        final Vector3i offset = checkNotNull(destination, "destination").getBlockMin().sub(this.volume.getBlockMin());
+        final int xSecond = secondOffset.getX();
+        final int ySecond = secondOffset.getY();
+        final int zSecond = secondOffset.getZ();
+        final int xOffset = offset.getX();
+        final int yOffset = offset.getY();
+        final int zOffset = offset.getZ();
+        SectionTask.invoke(this.pool, this.volume.getBlockMin(), this.volume.getBlockMax(), (x, y, z) ->
+                destination.setBlock(x + xOffset, y + yOffset, z + zOffset,
+                        merger.merge(firstVolume, x, y, z, secondVolume, x + xSecond, y + ySecond, z + zSecond)));
+    }
+
+    @Override
+    public void iterate(BlockVolumeVisitor<V> visitor) {
+        checkNotNull(visitor, "visitor");
+        SectionTask.invoke(this.pool, this.volume.getBlockMin(), this.volume.getBlockMax(), (x, y, z) -> visitor.visit(this.volume, x, y, z));
+    }
+
+    @Override
+    public <T> T reduce(BlockVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T identity) {
+        checkNotNull(reducer, "reducer");
+        checkNotNull(merge, "merge");
+        final UnmodifiableBlockVolume unmodifiableVolume = this.volume.getUnmodifiableBlockView();
+        return SectionTask.invoke(this.pool, this.volume.getBlockMin(), this.volume.getBlockMax(), (xMin, yMin, zMin, xMax, yMax, zMax) -> {
+            T reduction = identity;
+            for (int y = yMin; y <= yMax; y++) {
+                for (int z = zMin; z <= zMax; z++) {
+                    for (int x = xMin; x <= xMax; x++) {
+                        reduction = reducer.reduce(unmodifiableVolume, x, y, z, reduction);
+                    }
+                }
+            }
+            return reduction;
+        }, merge::apply);
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.worker;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.world.extent.MutableBiomeVolume;
+import org.spongepowered.api.world.extent.worker.procedure.BiomeVolumeFiller;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A {@link MutableBiomeVolumeWorker} running its operations concurrently on
+ * the section aligned sub-volumes of its volume, see
+ * {@link MutableBiomeVolumeWorker#parallel(ForkJoinPool)}.
+ *
+ * @param <V> The type of volume being worked on
+ */
+final class ParallelMutableBiomeVolumeWorker<V extends MutableBiomeVolume> extends ParallelBiomeVolumeWorker<V>
+        implements MutableBiomeVolumeWorker<V> {
+
+    ParallelMutableBiomeVolumeWorker(V volume, ForkJoinPool pool) {
+        super(volume, pool);
+    }
+
+    @Override
+    public void fill(BiomeVolumeFiller filler) {
+        checkNotNull(filler, "filler");
+        SectionTask.invoke(this.pool, this.volume.getBiomeMin(), this.volume.getBiomeMax(), (x, y, z) ->
+                this.volume.setBiome(x, y, z, filler.produce(x, y, z)));
+    }
+
+}
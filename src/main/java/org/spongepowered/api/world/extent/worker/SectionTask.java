@@ -0,0 +1,138 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.worker;
+
+import com.flowpowered.math.vector.Vector3i;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+/**
+ * A fork/join task applying a function to the 16x16x16 section aligned
+ * sub-volumes of a volume, used by the parallel volume workers. The
+ * results of the sections are merged in order.
+ *
+ * @param <T> The type of the result
+ */
+final class SectionTask<T> extends RecursiveTask<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    static final int SECTION_SIZE = 16;
+    private static final int SECTION_SHIFT = 4;
+
+    /**
+     * Applies the function to all sections of the volume between the given
+     * minimum and maximum, inclusive, in the pool.
+     */
+    static <T> T invoke(ForkJoinPool pool, Vector3i min, Vector3i max, SectionFunction<T> function, BinaryOperator<T> merge) {
+        final List<int[]> sections = new ArrayList<>();
+        for (int sx = min.getX() >> SECTION_SHIFT; sx <= max.getX() >> SECTION_SHIFT; sx++) {
+            for (int sy = min.getY() >> SECTION_SHIFT; sy <= max.getY() >> SECTION_SHIFT; sy++) {
+                for (int sz = min.getZ() >> SECTION_SHIFT; sz <= max.getZ() >> SECTION_SHIFT; sz++) {
+                    sections.add(new int[] {
+                            Math.max(min.getX(), sx << SECTION_SHIFT),
+                            Math.max(min.getY(), sy << SECTION_SHIFT),
+                            Math.max(min.getZ(), sz << SECTION_SHIFT),
+                            Math.min(max.getX(), (sx << SECTION_SHIFT) + SECTION_SIZE - 1),
+                            Math.min(max.getY(), (sy << SECTION_SHIFT) + SECTION_SIZE - 1),
+                            Math.min(max.getZ(), (sz << SECTION_SHIFT) + SECTION_SIZE - 1)
+                    });
+                }
+            }
+        }
+        return pool.invoke(new SectionTask<>(sections, 0, sections.size(), function, merge));
+    }
+
+    /**
+     * Runs an operation on every position of the volume between the given
+     * minimum and maximum, inclusive, in the pool.
+     */
+    static void invoke(ForkJoinPool pool, Vector3i min, Vector3i max, PositionConsumer consumer) {
+        invoke(pool, min, max, (xMin, yMin, zMin, xMax, yMax, zMax) -> {
+            for (int y = yMin; y <= yMax; y++) {
+                for (int z = zMin; z <= zMax; z++) {
+                    for (int x = xMin; x <= xMax; x++) {
+                        consumer.accept(x, y, z);
+                    }
+                }
+            }
+            return null;
+        }, (first, second) -> null);
+    }
+
+    private final List<int[]> sections;
+    private final int start;
+    private final int end;
+    private final SectionFunction<T> function;
+    private final BinaryOperator<T> merge;
+
+    private SectionTask(List<int[]> sections, int start, int end, SectionFunction<T> function, BinaryOperator<T> merge) {
+        this.sections = sections;
+        this.start = start;
+        this.end = end;
+        this.function = function;
+        this.merge = merge;
+    }
+
+    @Override
+    protected T compute() {
+        if (this.end - this.start == 1) {
+            final int[] section = this.sections.get(this.start);
+            return this.function.apply(section[0], section[1], section[2], section[3], section[4], section[5]);
+        }
+        final int mid = (this.start + this.end) >>> 1;
+        final SectionTask<T> first = new SectionTask<>(this.sections, this.start, mid, this.function, this.merge);
+        final SectionTask<T> second = new SectionTask<>(this.sections, mid, this.end, this.function, this.merge);
+        first.fork();
+        final T secondResult = second.compute();
+        return this.merge.apply(first.join(), secondResult);
+    }
+
+    /**
+     * A function applied to a section, given by its minimum and maximum
+     * coordinates, inclusive.
+     */
+    @FunctionalInterface
+    interface SectionFunction<T> {
+
+        T apply(int xMin, int yMin, int zMin, int xMax, int yMax, int zMax);
+
+    }
+
+    /**
+     * An operation on a single position.
+     */
+    @FunctionalInterface
+    interface PositionConsumer {
+
+        void accept(int x, int y, int z);
+
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.immutable.ImmutableValue;
+import org.spongepowered.api.data.value.mutable.Value;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+public class DataManagerTest {
+
+    @SuppressWarnings("unchecked")
+    private static final Key<Value<Integer>> KEY = mock(Key.class);
+
+    private final DataManager manager = mock(DataManager.class, Mockito.CALLS_REAL_METHODS);
+
+    @Test
+    public void testOfferAllWithoutHoldersHasNoData() {
+        assertSame(DataTransactionResult.successNoData(), this.manager.offerAll(Collections.emptyList(), KEY, 1));
+    }
+
+    @Test
+    public void testOfferAllKeepsTheMostSevereType() {
+        final DataHolder error = holder(DataTransactionResult.errorResult(mock(ImmutableValue.class)));
+        final DataHolder success = holder(DataTransactionResult.successNoData());
+        final DataHolder failure = holder(DataTransactionResult.failNoData());
+        assertEquals(DataTransactionResult.Type.ERROR, this.manager.offerAll(ImmutableList.of(error, success, failure), KEY, 1).getType());
+        assertEquals(DataTransactionResult.Type.FAILURE, this.manager.offerAll(ImmutableList.of(success, failure), KEY, 1).getType());
+        assertEquals(DataTransactionResult.Type.SUCCESS, this.manager.offerAll(ImmutableList.of(success, success), KEY, 1).getType());
+    }
+
+    @Test
+    public void testOfferAllConcatenatesValues() {
+        final ImmutableValue<?> first = mock(ImmutableValue.class);
+        final ImmutableValue<?> firstReplaced = mock(ImmutableValue.class);
+        final ImmutableValue<?> second = mock(ImmutableValue.class);
+        final ImmutableValue<?> secondReplaced = mock(ImmutableValue.class);
+        final ImmutableValue<?> rejected = mock(ImmutableValue.class);
+        final DataTransactionResult result = this.manager.offerAll(ImmutableList.of(
+                holder(DataTransactionResult.successReplaceResult(first, firstReplaced)),
+                holder(DataTransactionResult.failResult(rejected)),
+                holder(DataTransactionResult.successReplaceResult(second, secondReplaced))), KEY, 1);
+        assertEquals(DataTransactionResult.Type.FAILURE, result.getType());
+        // The values of different holders share their keys, but are never merged
+        assertEquals(ImmutableList.of(first, second), result.getSuccessfulData());
+        assertEquals(ImmutableList.of(firstReplaced, secondReplaced), result.getReplacedData());
+        assertEquals(ImmutableList.of(rejected), result.getRejectedData());
+    }
+
+    @Test
+    public void testGetAllSkipsContainersWithoutValue() {
+        final DataHolder first = mock(DataHolder.class);
+        final DataHolder empty = mock(DataHolder.class);
+        final DataHolder second = mock(DataHolder.class);
+        when(first.get(KEY)).thenReturn(Optional.of(1));
+        when(empty.get(KEY)).thenReturn(Optional.empty());
+        when(second.get(KEY)).thenReturn(Optional.of(2));
+        final Map<DataHolder, Integer> values = this.manager.getAll(ImmutableList.of(first, empty, second), KEY);
+        assertEquals(ImmutableList.of(first, second), ImmutableList.copyOf(values.keySet()));
+        assertEquals(ImmutableList.of(1, 2), ImmutableList.copyOf(values.values()));
+    }
+
+    private static DataHolder holder(DataTransactionResult result) {
+        final DataHolder holder = mock(DataHolder.class);
+        when(holder.offer(KEY, 1)).thenReturn(result);
+        return holder;
+    }
+
+}
@@ -31,6 +31,7 @@
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class DataQueryTest {
@@ -154,4 +155,29 @@ public void testEquals() {
         assertThat(query1.equals(nonEqual), is(false));
     }
 
+    @Test
+    public void testOfSplitsLikeStringSplit() {
+        for (String path : new String[] {"", "a", ".", "a.", "a..b", ".a", "a.b..", "..a.b"}) {
+            assertThat(DataQuery.of('.', path).getParts(), is(Arrays.asList(path.split("\\."))));
+        }
+    }
+
+    @Test
+    public void testHashCode() {
+        final DataQuery query = DataQuery.of("this", "test").then("query");
+        assertThat(query.hashCode(), is(ImmutableList.of("this", "test", "query").hashCode()));
+        assertThat(query.pop().hashCode(), is(DataQuery.of("this", "test").hashCode()));
+        assertThat(DataQuery.of("a").then(DataQuery.of("b", "c")), is(DataQuery.of('/', "a/b/c")));
+    }
+
+    @Test
+    public void testIntern() {
+        final DataQuery first = DataQuery.of("this", "test").intern();
+        final DataQuery second = DataQuery.of('.', "this.test").intern();
+        assertThat(first == second, is(true));
+        assertThat(first.pop() == DataQuery.of("this").intern(), is(true));
+        assertThat(first.equals(DataQuery.of("this", "nope").intern()), is(false));
+        assertThat(first.equals(DataQuery.of("this", "test")), is(true));
+    }
+
 }
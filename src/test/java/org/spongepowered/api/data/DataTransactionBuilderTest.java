@@ -25,9 +25,16 @@
 package org.spongepowered.api.data;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import com.google.common.collect.ImmutableList;
 import org.junit.Test;
 import org.spongepowered.api.data.DataTransactionResult.Type;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.immutable.ImmutableValue;
 
 public class DataTransactionBuilderTest {
 
@@ -40,6 +47,99 @@ public void testCorrectTypeWhenAbsorbingResult() {
         assertEquals(Type.CANCELLED, absorbedType(Type.FAILURE, Type.CANCELLED));
     }
     
+    @Test
+    public void testResultsWithoutDataAreShared() {
+        assertSame(DataTransactionResult.successNoData(), DataTransactionResult.builder().result(Type.SUCCESS).build());
+        assertSame(DataTransactionResult.failNoData(), DataTransactionResult.builder().result(Type.FAILURE).build());
+        final DataTransactionResult absorbed = DataTransactionResult.builder()
+                .result(Type.SUCCESS)
+                .absorbResult(DataTransactionResult.failNoData())
+                .build();
+        assertSame(DataTransactionResult.failNoData(), absorbed);
+    }
+
+    @Test
+    public void testFromDoesNotModifyTheSourceResult() {
+        final ImmutableValue<?> first = value(mock(Key.class));
+        final DataTransactionResult result = DataTransactionResult.successResult(first);
+        final DataTransactionResult built = DataTransactionResult.builder()
+                .from(result)
+                .success(value(mock(Key.class)))
+                .reject(value(mock(Key.class)))
+                .build();
+        assertEquals(ImmutableList.of(first), result.getSuccessfulData());
+        assertTrue(result.getRejectedData().isEmpty());
+        assertEquals(2, built.getSuccessfulData().size());
+        assertEquals(1, built.getRejectedData().size());
+    }
+
+    @Test
+    public void testAbsorbingIntoEmptyBuilder() {
+        final ImmutableValue<?> successful = value(mock(Key.class));
+        final ImmutableValue<?> replaced = value(mock(Key.class));
+        final ImmutableValue<?> rejected = value(mock(Key.class));
+        final DataTransactionResult distinct = DataTransactionResult.builder()
+                .result(Type.SUCCESS)
+                .success(successful)
+                .replace(replaced)
+                .reject(rejected)
+                .build();
+        assertEquals(distinct, DataTransactionResult.builder().absorbResult(distinct).build());
+
+        // Values of the result sharing a key are merged, in the order of
+        // successful, rejected and replaced values
+        final Key<?> key = mock(Key.class);
+        final ImmutableValue<?> value = value(key);
+        final DataTransactionResult absorbed = DataTransactionResult.builder()
+                .absorbResult(DataTransactionResult.successReplaceResult(value, value(key)))
+                .build();
+        assertEquals(ImmutableList.of(value), absorbed.getSuccessfulData());
+        assertTrue(absorbed.getReplacedData().isEmpty());
+
+        final ImmutableValue<?> duplicate = value(key);
+        final DataTransactionResult duplicates = DataTransactionResult.builder()
+                .absorbResult(DataTransactionResult.builder().result(Type.FAILURE).success(value).success(duplicate).reject(value(key)).build())
+                .build();
+        assertEquals(Type.FAILURE, duplicates.getType());
+        assertEquals(ImmutableList.of(value), duplicates.getSuccessfulData());
+        assertTrue(duplicates.getRejectedData().isEmpty());
+    }
+
+    @Test
+    public void testAbsorbingIntoBuilderWithData() {
+        final Key<?> first = mock(Key.class);
+        final Key<?> second = mock(Key.class);
+        final ImmutableValue<?> replaced = value(mock(Key.class));
+        final ImmutableValue<?> newFirst = value(first);
+        final ImmutableValue<?> rejectedSecond = value(second);
+        final ImmutableValue<?> newReplaced = value(mock(Key.class));
+        final ImmutableValue<?> newSuccessful = value(mock(Key.class));
+        final DataTransactionResult result = DataTransactionResult.builder()
+                .result(Type.SUCCESS)
+                .success(value(first))
+                .success(value(second))
+                .replace(replaced)
+                .absorbResult(DataTransactionResult.builder()
+                        .result(Type.FAILURE)
+                        .success(newFirst)
+                        .success(newSuccessful)
+                        .reject(rejectedSecond)
+                        .replace(newReplaced)
+                        .build())
+                .build();
+        assertEquals(Type.FAILURE, result.getType());
+        assertEquals(ImmutableList.of(newFirst, newSuccessful), result.getSuccessfulData());
+        assertEquals(ImmutableList.of(rejectedSecond), result.getRejectedData());
+        assertEquals(ImmutableList.of(replaced, newReplaced), result.getReplacedData());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ImmutableValue<?> value(Key key) {
+        final ImmutableValue value = mock(ImmutableValue.class);
+        when(value.getKey()).thenReturn(key);
+        return value;
+    }
+
     private Type absorbedType(Type builderType, Type resultType) {
         DataTransactionResult result = DataTransactionResult.builder().result(resultType).build();
         DataTransactionResult absorbed = DataTransactionResult.builder().result(builderType).absorbResult(result).build();
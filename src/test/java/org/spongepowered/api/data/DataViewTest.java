@@ -0,0 +1,86 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+public class DataViewTest {
+
+    private static final DataQuery A = DataQuery.of("a");
+    private static final DataQuery B = DataQuery.of("b");
+    private static final DataQuery C = DataQuery.of("c");
+    private static final DataQuery X = DataQuery.of("x");
+
+    private final DataView child = view(ImmutableMap.of(X, "x"));
+    // C is a key without a value
+    private final DataView view = view(ImmutableMap.of(A, 1, B, this.child), C);
+
+    @Test
+    public void testShallowWalk() {
+        assertEquals(ImmutableList.of(entry(A, 1), entry(B, this.child)), this.view.walk(false).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testDeepWalk() {
+        assertEquals(ImmutableList.of(entry(A, 1), entry(B, this.child), entry(DataQuery.of("b", "x"), "x")),
+                this.view.walk(true).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testWalkCountsOnlyKeysWithValues() {
+        assertFalse(this.view.walk(false).spliterator().hasCharacteristics(Spliterator.SIZED));
+        assertEquals(2, this.view.walk(false).count());
+        assertEquals(3, this.view.walk(true).count());
+    }
+
+    private static Map.Entry<DataQuery, Object> entry(DataQuery query, Object value) {
+        return new AbstractMap.SimpleImmutableEntry<>(query, value);
+    }
+
+    private static DataView view(Map<DataQuery, Object> values, DataQuery... missing) {
+        final DataView view = mock(DataView.class, Mockito.CALLS_REAL_METHODS);
+        when(view.getKeys(false)).thenReturn(ImmutableSet.<DataQuery>builder().addAll(values.keySet()).add(missing).build());
+        for (Map.Entry<DataQuery, Object> entry : values.entrySet()) {
+            when(view.get(entry.getKey())).thenReturn(Optional.of(entry.getValue()));
+        }
+        return view;
+    }
+
+}
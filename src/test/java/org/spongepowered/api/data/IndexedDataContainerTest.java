@@ -0,0 +1,180 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+public class IndexedDataContainerTest {
+
+    private static final DataQuery A = DataQuery.of("a");
+    private static final DataQuery A_B_C = DataQuery.of("a", "b", "c");
+    private static final DataQuery A_D = DataQuery.of("a", "d");
+
+    @Test
+    public void testDeepGet() {
+        final DataContainer container = new IndexedDataContainer().set(A_B_C, 1).set(A_D, "foo");
+        assertThat(container.getInt(A_B_C).get(), is(1));
+        assertThat(container.contains(A_B_C, A_D, DataQuery.of("a", "b")), is(true));
+        assertThat(container.contains(DataQuery.of("a", "e")), is(false));
+        final DataView view = container.getView(A).get();
+        assertThat(view.getString(DataQuery.of("d")).get(), is("foo"));
+        assertThat(view.getCurrentPath(), is(A));
+        assertThat(view.getName(), is("a"));
+    }
+
+    @Test
+    public void testKeys() {
+        final DataContainer container = new IndexedDataContainer().set(A_B_C, 1).set(A_D, "foo");
+        assertThat(container.getKeys(false), is(ImmutableSet.of(A)));
+        assertThat(container.getKeys(true), is(ImmutableSet.of(A, DataQuery.of("a", "b"), A_B_C, A_D)));
+    }
+
+    @Test
+    public void testOverwriteAndRemove() {
+        final DataContainer container = new IndexedDataContainer().set(A_B_C, 1).set(A_D, "foo");
+        final DataView view = container.getView(A).get();
+        container.set(DataQuery.of("a", "b"), 2);
+        assertThat(container.contains(A_B_C), is(false));
+        assertThat(view.getInt(DataQuery.of("b")).get(), is(2));
+        container.remove(A);
+        assertThat(container.isEmpty(), is(true));
+        assertThat(view.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testCopyOnWrite() {
+        final DataContainer container = new IndexedDataContainer().set(A_B_C, 1).set(A_D, ImmutableList.of("foo"));
+        final DataContainer copy = container.copy();
+        assertThat(copy, is(container));
+        copy.set(A_B_C, 2);
+        assertThat(container.getInt(A_B_C).get(), is(1));
+        assertThat(copy.getInt(A_B_C).get(), is(2));
+        assertThat(container.getView(A).get().copy().getStringList(DataQuery.of("d")).get(), is(ImmutableList.of("foo")));
+    }
+
+    @Test
+    public void testCopyOnWriteOfViewLists() {
+        final DataContainer element = new IndexedDataContainer().set(A_D, "foo");
+        final DataContainer container = new IndexedDataContainer().set(A, ImmutableList.of(element));
+        element.set(A_D, "bar");
+        final DataContainer copy = container.copy();
+
+        container.getViewList(A).get().get(0).set(A_D, "baz");
+        assertThat(container.getViewList(A).get().get(0).getString(A_D).get(), is("foo"));
+        assertThat(copy.getViewList(A).get().get(0).getString(A_D).get(), is("foo"));
+
+        // Modifying the copy gives it a store of its own
+        copy.set(DataQuery.of("e"), 1);
+        copy.getViewList(A).get().get(0).set(A_D, "baz");
+        assertThat(container.getViewList(A).get().get(0).getString(A_D).get(), is("foo"));
+        assertThat(copy.getViewList(A).get().get(0).getString(A_D).get(), is("foo"));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testCopyOnWriteOfMapLists() {
+        final Map<String, Object> element = new HashMap<>();
+        element.put("d", "foo");
+        final DataContainer container = new IndexedDataContainer().set(A, ImmutableList.of(element));
+        element.put("d", "bar");
+        final DataContainer copy = container.copy();
+
+        ((Map<String, Object>) container.getMapList(A).get().get(0)).put("d", "baz");
+        assertThat(container.getMapList(A).get().get(0).get("d"), is("foo"));
+        assertThat(copy.getMapList(A).get().get(0).get("d"), is("foo"));
+    }
+
+    @Test
+    public void testCopyOfViewListsClonedOnSet() {
+        final DataContainer container = new IndexedDataContainer(DataView.SafetyMode.CLONED_ON_SET)
+                .set(A, ImmutableList.of(new IndexedDataContainer().set(A_D, "foo")));
+        final DataContainer copy = container.copy();
+
+        container.getViewList(A).get().get(0).set(A_D, "bar");
+        assertThat(copy.getViewList(A).get().get(0).getString(A_D).get(), is("foo"));
+    }
+
+    @Test
+    public void testEqualsWithArrays() {
+        final DataContainer container = new IndexedDataContainer()
+                .set(A_B_C, new byte[] {1, 2})
+                .set(A_D, new int[] {3})
+                .set(DataQuery.of("e"), ImmutableList.of(new long[] {4L}, "foo"));
+        final DataContainer other = new IndexedDataContainer()
+                .set(DataQuery.of("e"), ImmutableList.of(new long[] {4L}, "foo"))
+                .set(A_D, new int[] {3})
+                .set(A_B_C, new byte[] {1, 2});
+        assertThat(container.equals(container.copy()), is(true));
+        assertThat(container.equals(other), is(true));
+        assertThat(container.hashCode(), is(other.hashCode()));
+        assertThat(container.hashCode(), is(container.copy().hashCode()));
+        other.set(A_D, new int[] {4});
+        assertThat(container.equals(other), is(false));
+    }
+
+    @Test
+    public void testStableHashCode() {
+        final DataContainer container = new IndexedDataContainer().set(A_B_C, new byte[] {1, 2}).set(A_D, ImmutableList.of(1, 2));
+        final int hashCode = container.hashCode();
+        assertThat(container.hashCode(), is(hashCode));
+        assertThat(container.getView(A).get().hashCode(), is(container.getView(A).get().hashCode()));
+    }
+
+    @Test
+    public void testSetView() {
+        final DataContainer container = new IndexedDataContainer().set(A_B_C, 1);
+        container.set(DataQuery.of("a", "b", "e"), container.getView(A).get());
+        assertThat(container.getInt(DataQuery.of("a", "b", "e", "b", "c")).get(), is(1));
+        assertThat(container.getInt(A_B_C).get(), is(1));
+    }
+
+    @Test
+    public void testWalk() {
+        final DataContainer container = new IndexedDataContainer().set(A_B_C, 1).set(A_D, "foo");
+        for (int i = 0; i < 10; i++) {
+            container.set(DataQuery.of("k" + i), i);
+        }
+        assertThat(container.walk(false).map(Map.Entry::getKey).collect(Collectors.toList()),
+                is(ImmutableList.copyOf(container.getValues(false).keySet())));
+        assertThat(container.walk(true).map(Map.Entry::getKey).collect(Collectors.toList()),
+                is(ImmutableList.copyOf(container.getValues(true).keySet())));
+        assertThat(container.walk(true).parallel().map(Map.Entry::getKey).collect(Collectors.toList()),
+                is(ImmutableList.copyOf(container.getValues(true).keySet())));
+        final AtomicInteger visited = new AtomicInteger();
+        assertThat(container.walk(true).peek(entry -> visited.incrementAndGet()).anyMatch(entry -> entry.getKey().equals(A_D)), is(true));
+        assertThat(visited.get(), is(4));
+    }
+
+}
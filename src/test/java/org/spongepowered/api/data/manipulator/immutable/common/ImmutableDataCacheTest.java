@@ -0,0 +1,147 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.manipulator.immutable.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.manipulator.DataManipulator;
+import org.spongepowered.api.data.value.immutable.ImmutableValue;
+import org.spongepowered.api.data.value.mutable.Value;
+
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+public class ImmutableDataCacheTest {
+
+    @SuppressWarnings("unchecked")
+    private static final Key<Value<Integer>> KEY = mock(Key.class);
+
+    @Test
+    public void testEqualValuesShareInstance() {
+        final ImmutableTestData data = ImmutableDataCache.get(ImmutableTestData.class, 1, ImmutableTestData::new);
+        assertSame(data, ImmutableDataCache.get(ImmutableTestData.class, 1, ImmutableTestData::new));
+        assertTrue(ImmutableDataCache.isCached(data));
+        assertFalse(ImmutableDataCache.isCached(new ImmutableTestData(1)));
+
+        final ImmutableTestData other = ImmutableDataCache.get(ImmutableTestData.class, 2, ImmutableTestData::new);
+        assertNotSame(data, other);
+        assertEquals(2, (int) other.getValue());
+    }
+
+    @Test
+    public void testOverflowCreatesFreshInstances() {
+        for (int i = 0; i < ImmutableDataCache.MAX_ENTRIES; i++) {
+            ImmutableDataCache.get(OverflowTestData.class, i, OverflowTestData::new);
+        }
+        final OverflowTestData first = ImmutableDataCache.get(OverflowTestData.class, ImmutableDataCache.MAX_ENTRIES, OverflowTestData::new);
+        final OverflowTestData second = ImmutableDataCache.get(OverflowTestData.class, ImmutableDataCache.MAX_ENTRIES, OverflowTestData::new);
+        assertNotSame(first, second);
+        assertEquals(first, second);
+        assertFalse(ImmutableDataCache.isCached(first));
+        // Values cached before the limit was reached are still shared
+        assertSame(ImmutableDataCache.get(OverflowTestData.class, 0, OverflowTestData::new),
+                ImmutableDataCache.get(OverflowTestData.class, 0, OverflowTestData::new));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorMustCreateTheGivenClass() {
+        ImmutableDataCache.get(ImmutableTestData.class, 3, OverflowTestData::new);
+    }
+
+    @Test
+    public void testWithUnchangedValueReturnsThis() {
+        final ImmutableTestData data = new ImmutableTestData(4);
+        assertSame(data, data.with(KEY, 4).get());
+    }
+
+    @Test
+    public void testWithChangedValueReturnsNewInstance() {
+        final TestData mutable = mock(TestData.class);
+        final ImmutableTestData changed = new ImmutableTestData(6);
+        when(mutable.supports(KEY)).thenReturn(true);
+        when(mutable.set(KEY, 6)).thenReturn(mutable);
+        when(mutable.asImmutable()).thenReturn(changed);
+
+        final ImmutableTestData data = new ImmutableTestData(5, mutable);
+        final Optional<ImmutableTestData> result = data.with(KEY, 6);
+        assertSame(changed, result.get());
+        assertEquals(5, (int) data.getValue());
+    }
+
+    interface TestData extends DataManipulator<TestData, ImmutableTestData> {
+
+    }
+
+    static class ImmutableTestData extends AbstractImmutableSingleData<Integer, ImmutableTestData, TestData> {
+
+        @Nullable private final TestData mutable;
+
+        ImmutableTestData(Integer value) {
+            this(value, null);
+        }
+
+        ImmutableTestData(Integer value, @Nullable TestData mutable) {
+            super(value, KEY);
+            this.mutable = mutable;
+        }
+
+        @Override
+        protected ImmutableValue<?> getValueGetter() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TestData asMutable() {
+            if (this.mutable == null) {
+                throw new UnsupportedOperationException();
+            }
+            return this.mutable;
+        }
+
+        @Override
+        public int getContentVersion() {
+            return 1;
+        }
+
+    }
+
+    static final class OverflowTestData extends ImmutableTestData {
+
+        OverflowTestData(Integer value) {
+            super(value);
+        }
+
+    }
+
+}
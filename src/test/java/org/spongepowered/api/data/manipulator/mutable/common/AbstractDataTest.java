@@ -0,0 +1,211 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.manipulator.mutable.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataHolder;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
+import org.spongepowered.api.data.merge.MergeFunction;
+import org.spongepowered.api.data.value.mutable.Value;
+
+import java.util.Optional;
+
+public class AbstractDataTest {
+
+    private static final Key<Value<Integer>> SIZE = key(0);
+    private static final Key<Value<String>> NAME = key(1);
+    private static final Key<Value<Boolean>> EXTRA = key(5);
+    private static final Key<Value<Integer>> LATE = key(2);
+    private static final Key<Value<Integer>> WRITE_ONLY = key(3);
+    @SuppressWarnings("unchecked")
+    private static final Value<Integer> SIZE_VALUE = mock(Value.class);
+
+    @Test
+    public void testClassLevelRegistrations() {
+        final FooData data = new FooData().set(SIZE, 3).set(NAME, "foo");
+        assertEquals(Optional.of(3), data.get(SIZE));
+        assertEquals(Optional.of("foo"), data.get(NAME));
+        assertEquals(Optional.of(4), data.transform(SIZE, size -> size + 1).get(SIZE));
+        assertSame(SIZE_VALUE, data.getValue(SIZE).get());
+        assertFalse(data.getValue(NAME).isPresent());
+        assertTrue(data.supports(SIZE));
+        assertFalse(data.supports(EXTRA));
+        assertFalse(data.get(EXTRA).isPresent());
+        assertEquals(ImmutableSet.of(SIZE, NAME), data.getKeys());
+    }
+
+    @Test
+    public void testSubclassesInheritRegistrations() {
+        final ExtendedFooData data = new ExtendedFooData();
+        data.set(SIZE, 3).set(EXTRA, true);
+        assertEquals(Optional.of(3), data.get(SIZE));
+        assertEquals(Optional.of(true), data.get(EXTRA));
+        assertEquals(ImmutableSet.of(SIZE, NAME, EXTRA), data.getKeys());
+        // Registrations of a subclass don't leak into its superclass
+        assertFalse(new FooData().supports(EXTRA));
+    }
+
+    @Test
+    public void testKeysWithoutGetterAreNotSupported() {
+        final FooData data = new FooData();
+        assertFalse(data.supports(WRITE_ONLY));
+        assertFalse(data.get(WRITE_ONLY).isPresent());
+        assertFalse(data.getKeys().contains(WRITE_ONLY));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetKeyWithoutGetter() {
+        new FooData().set(WRITE_ONLY, 1);
+    }
+
+    @Test
+    public void testLateRegistrationsAreInherited() {
+        final LateExtendedFooData data = new LateExtendedFooData();
+        assertFalse(data.supports(LATE));
+        // The table of the subclass exists at this point
+        AbstractData.registerFieldGetter(LateFooData.class, LATE, FooData::getSize);
+        AbstractData.registerFieldSetter(LateFooData.class, LATE, FooData::setSize);
+        data.set(LATE, 2);
+        assertEquals(Optional.of(2), data.get(SIZE));
+        assertEquals(Optional.of(2), data.get(LATE));
+        assertEquals(ImmutableSet.of(SIZE, NAME, LATE), data.getKeys());
+    }
+
+    @Test
+    public void testEquality() {
+        final FooData data = new FooData().set(SIZE, 3).set(NAME, "foo");
+        final FooData equal = new FooData().set(SIZE, 3).set(NAME, "foo");
+        assertEquals(data, equal);
+        assertEquals(data.hashCode(), equal.hashCode());
+        assertNotEquals(data, new FooData().set(SIZE, 4).set(NAME, "foo"));
+        assertNotEquals(data, new ExtendedFooData().set(SIZE, 3).set(NAME, "foo"));
+    }
+
+    @Test
+    public void testKeysAreComparedByIdentity() {
+        // A key which shares its ordinal with a registered key is still a different key
+        final Key<Value<Integer>> other = key(SIZE.getOrdinal());
+        final FooData data = new FooData();
+        assertFalse(data.supports(other));
+        assertFalse(data.get(other).isPresent());
+        assertFalse(data.getValue(other).isPresent());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V extends Value<?>> Key<V> key(int ordinal) {
+        final Key<V> key = mock(Key.class);
+        when(key.getOrdinal()).thenReturn(ordinal);
+        return key;
+    }
+
+    interface ImmutableFooData extends ImmutableDataManipulator<ImmutableFooData, FooData> {
+
+    }
+
+    static class FooData extends AbstractData<FooData, ImmutableFooData> {
+
+        static {
+            registerFieldGetter(FooData.class, SIZE, FooData::getSize);
+            registerFieldSetter(FooData.class, SIZE, FooData::setSize);
+            registerKeyValue(FooData.class, SIZE, data -> SIZE_VALUE);
+            registerFieldGetter(FooData.class, NAME, data -> data.name);
+            registerFieldSetter(FooData.class, NAME, (data, name) -> data.name = name);
+            registerFieldSetter(FooData.class, WRITE_ONLY, FooData::setSize);
+        }
+
+        private int size;
+        private String name = "";
+
+        int getSize() {
+            return this.size;
+        }
+
+        void setSize(int size) {
+            this.size = size;
+        }
+
+        @Override
+        protected DataContainer fillContainer(DataContainer dataContainer) {
+            return dataContainer;
+        }
+
+        @Override
+        public Optional<FooData> fill(DataHolder dataHolder, MergeFunction overlap) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<FooData> from(DataContainer container) {
+            return Optional.empty();
+        }
+
+        @Override
+        public FooData copy() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ImmutableFooData asImmutable() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int getContentVersion() {
+            return 1;
+        }
+
+    }
+
+    static final class ExtendedFooData extends FooData {
+
+        static {
+            registerFieldGetter(ExtendedFooData.class, EXTRA, data -> data.extra);
+            registerFieldSetter(ExtendedFooData.class, EXTRA, (data, extra) -> data.extra = extra);
+        }
+
+        private boolean extra;
+
+    }
+
+    static class LateFooData extends FooData {
+
+    }
+
+    static final class LateExtendedFooData extends LateFooData {
+
+    }
+
+}
@@ -0,0 +1,266 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.IndexedDataContainer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BinaryDataFormatTest {
+
+    private final BinaryDataFormat format = new BinaryDataFormat();
+
+    private byte[] write(DataView view) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        this.format.writeTo(output, view);
+        return output.toByteArray();
+    }
+
+    private DataContainer roundTrip(DataView view) throws IOException {
+        return this.format.readFrom(new ByteArrayInputStream(write(view)));
+    }
+
+    @Test
+    public void testPrimitives() throws IOException {
+        final DataContainer container = new IndexedDataContainer()
+                .set(DataQuery.of("boolean"), true)
+                .set(DataQuery.of("byte"), (byte) -3)
+                .set(DataQuery.of("short"), (short) -300)
+                .set(DataQuery.of("char"), 'x')
+                .set(DataQuery.of("int"), Integer.MIN_VALUE)
+                .set(DataQuery.of("long"), Long.MAX_VALUE)
+                .set(DataQuery.of("float"), 1.5f)
+                .set(DataQuery.of("double"), -2.25)
+                .set(DataQuery.of("string"), "f\u00f6\u00f6");
+        assertThat(roundTrip(container), is(container));
+    }
+
+    @Test
+    public void testViewsAndLists() throws IOException {
+        final DataContainer container = new IndexedDataContainer()
+                .set(DataQuery.of("a", "b", "c"), 1)
+                .set(DataQuery.of("a", "d"), ImmutableList.of(1, -2, 3))
+                .set(DataQuery.of("longs"), ImmutableList.of(1L, Long.MIN_VALUE))
+                .set(DataQuery.of("doubles"), ImmutableList.of(0.5, 1.0))
+                .set(DataQuery.of("mixed"), ImmutableList.of("foo", 1, ImmutableList.of(2L)))
+                .set(DataQuery.of("empty"), ImmutableList.of())
+                .set(DataQuery.of("views"), ImmutableList.of(new IndexedDataContainer().set(DataQuery.of("x"), 1)));
+        final DataContainer read = roundTrip(container);
+        assertThat(read.getInt(DataQuery.of("a", "b", "c")).get(), is(1));
+        assertThat(read.getList(DataQuery.of("a", "d")).get(), is(ImmutableList.of(1, -2, 3)));
+        assertThat(read.getList(DataQuery.of("longs")).get(), is(ImmutableList.of(1L, Long.MIN_VALUE)));
+        assertThat(read.getList(DataQuery.of("doubles")).get(), is(ImmutableList.of(0.5, 1.0)));
+        assertThat(read.getList(DataQuery.of("mixed")).get(), is(ImmutableList.of("foo", 1, ImmutableList.of(2L))));
+        assertThat(read.getList(DataQuery.of("empty")).get().isEmpty(), is(true));
+        final List<DataView> views = read.getViewList(DataQuery.of("views")).get();
+        assertThat(views.get(0).getInt(DataQuery.of("x")).get(), is(1));
+        assertThat(read.getMap(DataQuery.of("a")).get(), is(ImmutableMap.of("b", ImmutableMap.of("c", 1), "d", ImmutableList.of(1, -2, 3))));
+    }
+
+    @Test
+    public void testArrays() throws IOException {
+        final DataContainer read = roundTrip(new IndexedDataContainer()
+                .set(DataQuery.of("bytes"), new byte[] {1, -1})
+                .set(DataQuery.of("ints"), new int[] {1, -1})
+                .set(DataQuery.of("longs"), new long[] {1, -1}));
+        assertThat((byte[]) read.get(DataQuery.of("bytes")).get(), is(new byte[] {1, -1}));
+        assertThat((int[]) read.get(DataQuery.of("ints")).get(), is(new int[] {1, -1}));
+        assertThat((long[]) read.get(DataQuery.of("longs")).get(), is(new long[] {1, -1}));
+    }
+
+    @Test
+    public void testRepeatedStringsAreWrittenOnce() throws IOException {
+        final List<DataView> records = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            records.add(new IndexedDataContainer().set(DataQuery.of("someLongKeyName"), "someLongValue"));
+        }
+        final DataContainer container = new IndexedDataContainer().set(DataQuery.of("records"), records);
+        // Every record after the first only refers to the string table
+        assertThat(write(container).length, lessThan(100 * 8));
+        assertThat(roundTrip(container), is(container));
+    }
+
+    @Test
+    public void testWriter() throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (DataWriter writer = this.format.createWriter(output)) {
+            writer.write("a", 1).beginView("b").write("c", "foo").beginView("d").endView().endView().write("e", ImmutableList.of(1L));
+        }
+        final DataContainer expected = new IndexedDataContainer()
+                .set(DataQuery.of("a"), 1)
+                .set(DataQuery.of("b", "c"), "foo")
+                .set(DataQuery.of("e"), ImmutableList.of(1L));
+        expected.createView(DataQuery.of("b", "d"));
+        assertThat(this.format.readFrom(new ByteArrayInputStream(output.toByteArray())), is(expected));
+    }
+
+    @Test
+    public void testReaderSkipsViews() throws IOException {
+        final byte[] bytes = write(new IndexedDataContainer()
+                .set(DataQuery.of("skipped", "a"), "foo")
+                .set(DataQuery.of("skipped", "b", "c"), ImmutableList.of("bar"))
+                .set(DataQuery.of("partial", "d"), "foo")
+                .set(DataQuery.of("partial", "e"), 1)
+                .set(DataQuery.of("f"), "bar"));
+        final DataReader reader = this.format.createReader(new ByteArrayInputStream(bytes));
+        assertThat(reader.nextKey(), is("skipped"));
+        assertThat(reader.isView(), is(true));
+        reader.skipValue();
+        assertThat(reader.nextKey(), is("partial"));
+        reader.beginView();
+        assertThat(reader.nextKey(), is("d"));
+        assertThat(reader.nextValue(), is("foo"));
+        reader.endView();
+        assertThat(reader.nextKey(), is("f"));
+        // Strings that were skipped are still resolved from the string table
+        assertThat(reader.nextValue(), is("bar"));
+        assertThat(reader.hasNext(), is(false));
+    }
+
+    @Test
+    public void testDefaultReader() throws IOException {
+        final DataFormat format = new DataFormat() {
+            @Override
+            public DataContainer readFrom(InputStream input) throws IOException {
+                return BinaryDataFormatTest.this.format.readFrom(input);
+            }
+
+            @Override
+            public void writeTo(OutputStream output, DataView data) throws IOException {
+                BinaryDataFormatTest.this.format.writeTo(output, data);
+            }
+
+            @Override
+            public String getId() {
+                return "test";
+            }
+
+            @Override
+            public String getName() {
+                return "Test";
+            }
+        };
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (DataWriter writer = format.createWriter(output)) {
+            writer.beginView("a").write("b", 1).endView().write("c", 2);
+        }
+        final DataReader reader = format.createReader(new ByteArrayInputStream(output.toByteArray()));
+        assertThat(reader.nextKey(), is("a"));
+        reader.skipValue();
+        assertThat(reader.nextKey(), is("c"));
+        assertThat(reader.nextValue(), is(2));
+        assertThat(reader.hasNext(), is(false));
+    }
+
+    @Test
+    public void testView() throws IOException {
+        final DataContainer container = new IndexedDataContainer()
+                .set(DataQuery.of("first", "a"), "foo")
+                .set(DataQuery.of("first", "b", "c"), ImmutableList.of(1, 2))
+                .set(DataQuery.of("second", "d"), "foo")
+                .set(DataQuery.of("second", "e"), "bar")
+                .set(DataQuery.of("views"), ImmutableList.of(new IndexedDataContainer().set(DataQuery.of("e"), "bar")));
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(write(container).length);
+        buffer.put(write(container)).flip();
+        // "foo" is only defined in the first view, which is never loaded
+        assertThat(this.format.view(buffer).getString(DataQuery.of("second", "d")).get(), is("foo"));
+        assertThat(this.format.view(buffer), is(container));
+        final DataContainer view = this.format.view(buffer);
+        final DataContainer copy = view.copy().set(DataQuery.of("first", "a"), "baz");
+        assertThat(view.getString(DataQuery.of("first", "a")).get(), is("foo"));
+        assertThat(copy.getString(DataQuery.of("first", "a")).get(), is("baz"));
+        assertThat(copy.getList(DataQuery.of("first", "b", "c")).get(), is(ImmutableList.of(1, 2)));
+        assertThat(buffer.position(), is(0));
+    }
+
+    @Test
+    public void testViewSkipsUnaccessedViews() throws IOException {
+        final byte[] bytes = write(new IndexedDataContainer()
+                .set(DataQuery.of("broken", "a"), 1)
+                .set(DataQuery.of("b"), 2));
+        // The version, the type and the new key of the view and its header of two single byte integers
+        final int entryType = 1 + 1 + (2 + "broken".length()) + 2;
+        assertThat(bytes[entryType], is(BinaryDataFormat.INT));
+        // Corrupt the type of the entry in the nested view
+        bytes[entryType] = 100;
+        final DataContainer view = this.format.view(ByteBuffer.wrap(bytes));
+        assertThat(view.getInt(DataQuery.of("b")).get(), is(2));
+        assertThat(view.contains(DataQuery.of("broken")), is(true));
+        try {
+            view.get(DataQuery.of("broken", "a"));
+            throw new AssertionError("The broken view was decoded");
+        } catch (InvalidDataFormatException expected) {
+        }
+    }
+
+    @Test
+    public void testDeeplyNestedViews() throws IOException {
+        final StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            value.append('x');
+        }
+        final DataContainer container = new IndexedDataContainer();
+        DataQuery path = DataQuery.of();
+        for (int i = 0; i < 20; i++) {
+            path = path.then("view" + i);
+            container.set(path.then("value"), value.toString() + i);
+            container.set(path.then("list"), ImmutableList.of(new IndexedDataContainer().set(DataQuery.of("value"), i)));
+        }
+        container.set(DataQuery.of("last"), 1);
+        final byte[] bytes = write(container);
+        assertThat(roundTrip(container), is(container));
+        assertThat(this.format.view(ByteBuffer.wrap(bytes)), is(container));
+        assertThat(this.format.view(ByteBuffer.wrap(bytes)).getString(path.then("value")).get(), is(value.toString() + 19));
+
+        final DataReader reader = this.format.createReader(new ByteArrayInputStream(bytes));
+        assertThat(reader.nextKey(), is("view0"));
+        reader.skipValue();
+        assertThat(reader.nextKey(), is("last"));
+        assertThat(reader.nextValue(), is(1));
+    }
+
+    @Test(expected = InvalidDataFormatException.class)
+    public void testUnknownVersion() throws IOException {
+        this.format.readFrom(new ByteArrayInputStream(new byte[] {0}));
+    }
+
+}
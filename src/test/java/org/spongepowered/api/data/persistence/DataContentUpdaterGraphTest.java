@@ -0,0 +1,97 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.IndexedDataContainer;
+
+import java.util.Set;
+
+public class DataContentUpdaterGraphTest {
+
+    private static final DataQuery COUNT = DataQuery.of("count");
+
+    private static DataContentUpdater increment(int from, int to, boolean declared) {
+        return new DataContentUpdater() {
+            @Override
+            public int getInputVersion() {
+                return from;
+            }
+
+            @Override
+            public int getOutputVersion() {
+                return to;
+            }
+
+            @Override
+            public DataView update(DataView content) {
+                if (declared) {
+                    // Only the declared data is passed to the updater
+                    assertThat(content.getKeys(false), is(ImmutableSet.of(COUNT)));
+                }
+                return content.set(COUNT, content.getInt(COUNT).get() + 1);
+            }
+
+            @Override
+            public Set<DataQuery> getUpdatedQueries() {
+                return declared ? ImmutableSet.of(COUNT) : DataContentUpdater.super.getUpdatedQueries();
+            }
+        };
+    }
+
+    @Test
+    public void testShortestChain() {
+        final DataContentUpdaterGraph graph = new DataContentUpdaterGraph();
+        graph.register(increment(1, 2, false));
+        graph.register(increment(2, 3, false));
+        graph.register(increment(3, 4, false));
+        graph.register(increment(2, 4, false));
+        final DataContentUpdater updater = graph.getUpdater(1, 4).get();
+        assertThat(updater.getInputVersion(), is(1));
+        assertThat(updater.getOutputVersion(), is(4));
+        assertThat(updater.update(new IndexedDataContainer().set(COUNT, 0)).getInt(COUNT).get(), is(2));
+        assertThat(graph.getUpdater(1, 4).get() == updater, is(true));
+        assertThat(graph.getUpdater(4, 1).isPresent(), is(false));
+    }
+
+    @Test
+    public void testDeclaredQueries() {
+        final DataContentUpdaterGraph graph = new DataContentUpdaterGraph();
+        graph.register(increment(1, 2, true));
+        graph.register(increment(2, 3, true));
+        final DataContainer content = new IndexedDataContainer().set(COUNT, 0).set(DataQuery.of("other", "data"), "foo");
+        final DataView updated = graph.getUpdater(1, 3).get().update(content);
+        assertThat(updated.getInt(COUNT).get(), is(2));
+        assertThat(updated.getString(DataQuery.of("other", "data")).get(), is("foo"));
+    }
+
+}
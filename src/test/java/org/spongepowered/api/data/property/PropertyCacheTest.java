@@ -0,0 +1,152 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.property;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Test;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.util.Direction;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.World;
+
+import java.util.Optional;
+
+public class PropertyCacheTest {
+
+    @Test
+    public void testCacheableStoreIsQueriedOncePerHolder() {
+        final BlockState[] states = {mock(BlockState.class), mock(BlockState.class), mock(BlockState.class)};
+        final CountingStore store = new CountingStore(true);
+        final PropertyCache cache = new PropertyCache();
+        // The access pattern of a teleport helper, scanning a volume for a
+        // safe location where only a few block states are present
+        for (int x = 0; x < 16; x++) {
+            for (int y = 0; y < 16; y++) {
+                for (int z = 0; z < 16; z++) {
+                    final BlockState state = states[(x + y * 3 + z * 7) % states.length];
+                    assertEquals(state != states[0], cache.getFor(state, BooleanProperty.class, store).isPresent());
+                }
+            }
+        }
+        assertEquals(states.length, store.queries);
+        assertSame(cache.getFor(states[1], BooleanProperty.class, store).get(),
+                cache.getFor(states[1], BooleanProperty.class, store).get());
+    }
+
+    @Test
+    public void testNonCacheableStoreIsAlwaysQueried() {
+        final BlockState state = mock(BlockState.class);
+        final CountingStore store = new CountingStore(false);
+        final PropertyCache cache = new PropertyCache();
+        for (int i = 0; i < 10; i++) {
+            cache.getFor(state, BooleanProperty.class, store);
+        }
+        assertEquals(10, store.queries);
+    }
+
+    @Test
+    public void testStoresOfTheSamePropertyAreCachedSeparately() {
+        final BlockState first = mock(BlockState.class);
+        final BlockState second = mock(BlockState.class);
+        final CountingStore store = new CountingStore(true);
+        final CountingStore otherStore = new CountingStore(true);
+        final PropertyCache cache = new PropertyCache();
+        assertFalse(cache.getFor(first, BooleanProperty.class, store).isPresent());
+        // The first block state queried from the other store is the second one
+        assertFalse(cache.getFor(second, BooleanProperty.class, otherStore).isPresent());
+        assertTrue(cache.getFor(first, BooleanProperty.class, otherStore).isPresent());
+        assertTrue(cache.getFor(second, BooleanProperty.class, store).isPresent());
+        assertFalse(cache.getFor(first, BooleanProperty.class, store).isPresent());
+        assertFalse(cache.getFor(second, BooleanProperty.class, otherStore).isPresent());
+        assertEquals(2, store.queries);
+        assertEquals(2, otherStore.queries);
+        cache.invalidate(BooleanProperty.class);
+        cache.getFor(first, BooleanProperty.class, store);
+        cache.getFor(first, BooleanProperty.class, otherStore);
+        assertEquals(3, store.queries);
+        assertEquals(3, otherStore.queries);
+    }
+
+    @Test
+    public void testInvalidate() {
+        final BlockState state = mock(BlockState.class);
+        final CountingStore store = new CountingStore(true);
+        final PropertyCache cache = new PropertyCache();
+        cache.getFor(state, BooleanProperty.class, store);
+        cache.invalidate(BooleanProperty.class);
+        cache.getFor(state, BooleanProperty.class, store);
+        assertEquals(2, store.queries);
+        cache.invalidate();
+        assertFalse(cache.getFor(state, BooleanProperty.class, store).isPresent());
+        assertEquals(3, store.queries);
+    }
+
+    private static final class CountingStore implements PropertyStore<BooleanProperty> {
+
+        private final boolean cacheable;
+        private PropertyHolder first;
+        int queries;
+
+        CountingStore(boolean cacheable) {
+            this.cacheable = cacheable;
+        }
+
+        @Override
+        public Optional<BooleanProperty> getFor(PropertyHolder propertyHolder) {
+            this.queries++;
+            if (this.first == null) {
+                this.first = propertyHolder;
+            }
+            return propertyHolder == this.first ? Optional.empty() : Optional.of(new BooleanProperty(true));
+        }
+
+        @Override
+        public Optional<BooleanProperty> getFor(Location<World> location) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<BooleanProperty> getFor(Location<World> location, Direction direction) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isCacheable() {
+            return this.cacheable;
+        }
+
+        @Override
+        public int getPriority() {
+            return 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.value;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.mutable.Value;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+public class ValueContainerTest {
+
+    @SuppressWarnings("unchecked")
+    private static final Key<Value<Integer>> INT_KEY = mock(Key.class);
+    @SuppressWarnings("unchecked")
+    private static final Key<Value<Long>> LONG_KEY = mock(Key.class);
+    @SuppressWarnings("unchecked")
+    private static final Key<Value<Double>> DOUBLE_KEY = mock(Key.class);
+    @SuppressWarnings("unchecked")
+    private static final Key<Value<Boolean>> BOOLEAN_KEY = mock(Key.class);
+
+    @Test
+    public void testPrimitiveGettersReadValues() {
+        final ValueContainer<?> container = container();
+        when(container.get(INT_KEY)).thenReturn(Optional.of(3));
+        when(container.get(LONG_KEY)).thenReturn(Optional.of(4L));
+        when(container.get(DOUBLE_KEY)).thenReturn(Optional.of(0.5));
+        when(container.get(BOOLEAN_KEY)).thenReturn(Optional.of(true));
+
+        assertEquals(3, container.getInt(INT_KEY));
+        assertEquals(4L, container.getLong(LONG_KEY));
+        assertEquals(0.5, container.getDouble(DOUBLE_KEY), 0);
+        assertTrue(container.getBoolean(BOOLEAN_KEY));
+
+        assertEquals(3, container.getInt(INT_KEY, 7));
+        assertEquals(4L, container.getLong(LONG_KEY, 7L));
+        assertEquals(0.5, container.getDouble(DOUBLE_KEY, 7.0), 0);
+        assertTrue(container.getBoolean(BOOLEAN_KEY, false));
+    }
+
+    @Test
+    public void testPrimitiveGettersReadPrimitiveValues() {
+        final ValueContainer<?> container = container();
+        // The boxed values differ, to tell which path was taken
+        when(container.get(INT_KEY)).thenReturn(Optional.of(3));
+        when(container.get(LONG_KEY)).thenReturn(Optional.of(4L));
+        when(container.get(DOUBLE_KEY)).thenReturn(Optional.of(0.5));
+        when(container.get(BOOLEAN_KEY)).thenReturn(Optional.of(true));
+        final IntTestValue intValue = mock(IntTestValue.class);
+        when(intValue.getInt()).thenReturn(5);
+        final LongTestValue longValue = mock(LongTestValue.class);
+        when(longValue.getLong()).thenReturn(6L);
+        final DoubleTestValue doubleValue = mock(DoubleTestValue.class);
+        when(doubleValue.getDouble()).thenReturn(1.5);
+        final BooleanTestValue booleanValue = mock(BooleanTestValue.class);
+        when(booleanValue.getBoolean()).thenReturn(false);
+        when(container.getValue(INT_KEY)).thenReturn(Optional.<Value<Integer>>of(intValue));
+        when(container.getValue(LONG_KEY)).thenReturn(Optional.<Value<Long>>of(longValue));
+        when(container.getValue(DOUBLE_KEY)).thenReturn(Optional.<Value<Double>>of(doubleValue));
+        when(container.getValue(BOOLEAN_KEY)).thenReturn(Optional.<Value<Boolean>>of(booleanValue));
+
+        assertEquals(5, container.getInt(INT_KEY));
+        assertEquals(6L, container.getLong(LONG_KEY));
+        assertEquals(1.5, container.getDouble(DOUBLE_KEY), 0);
+        assertFalse(container.getBoolean(BOOLEAN_KEY));
+
+        assertEquals(5, container.getInt(INT_KEY, 7));
+        assertEquals(6L, container.getLong(LONG_KEY, 7L));
+        assertEquals(1.5, container.getDouble(DOUBLE_KEY, 7.0), 0);
+        assertFalse(container.getBoolean(BOOLEAN_KEY, true));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testPrimitiveGettersReadOtherValues() {
+        final ValueContainer<?> container = container();
+        final Value<Integer> value = mock(Value.class);
+        when(value.get()).thenReturn(8);
+        when(container.getValue(INT_KEY)).thenReturn(Optional.of(value));
+        assertEquals(8, container.getInt(INT_KEY));
+        assertEquals(8, container.getInt(INT_KEY, 7));
+    }
+
+    @Test
+    public void testPrimitiveGettersFallBackToDefaults() {
+        final ValueContainer<?> container = container();
+        assertEquals(7, container.getInt(INT_KEY, 7));
+        assertEquals(7L, container.getLong(LONG_KEY, 7L));
+        assertEquals(7.0, container.getDouble(DOUBLE_KEY, 7.0), 0);
+        assertTrue(container.getBoolean(BOOLEAN_KEY, true));
+        assertFalse(container.getBoolean(BOOLEAN_KEY, false));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testGetIntRequiresValue() {
+        container().getInt(INT_KEY);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testGetLongRequiresValue() {
+        container().getLong(LONG_KEY);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testGetDoubleRequiresValue() {
+        container().getDouble(DOUBLE_KEY);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testGetBooleanRequiresValue() {
+        container().getBoolean(BOOLEAN_KEY);
+    }
+
+    private static ValueContainer<?> container() {
+        final ValueContainer<?> container = mock(ValueContainer.class, Mockito.CALLS_REAL_METHODS);
+        when(container.get(INT_KEY)).thenReturn(Optional.empty());
+        when(container.get(LONG_KEY)).thenReturn(Optional.empty());
+        when(container.get(DOUBLE_KEY)).thenReturn(Optional.empty());
+        when(container.get(BOOLEAN_KEY)).thenReturn(Optional.empty());
+        return container;
+    }
+
+    private interface IntTestValue extends Value<Integer>, IntValue {
+    }
+
+    private interface LongTestValue extends Value<Long>, LongValue {
+    }
+
+    private interface DoubleTestValue extends Value<Double>, DoubleValue {
+    }
+
+    private interface BooleanTestValue extends Value<Boolean>, BooleanValue {
+    }
+
+}
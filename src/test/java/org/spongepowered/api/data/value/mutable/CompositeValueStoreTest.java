@@ -0,0 +1,107 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.value.mutable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.data.DataTransactionResult;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.immutable.ImmutableValue;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class CompositeValueStoreTest {
+
+    @SuppressWarnings("unchecked")
+    private static final Key<Value<Integer>> FIRST_KEY = mock(Key.class);
+    @SuppressWarnings("unchecked")
+    private static final Key<Value<Integer>> SECOND_KEY = mock(Key.class);
+    @SuppressWarnings("unchecked")
+    private static final Key<Value<Integer>> THIRD_KEY = mock(Key.class);
+
+    private final CompositeValueStore<?, ?> store = mock(CompositeValueStore.class, Mockito.CALLS_REAL_METHODS);
+
+    @Test
+    public void testOfferAllWithoutValuesHasNoData() {
+        assertSame(DataTransactionResult.successNoData(), this.store.offerAll(Collections.emptyMap()));
+    }
+
+    @Test
+    public void testOfferAllKeepsTheMostSevereType() {
+        final ImmutableValue<?> first = value(FIRST_KEY);
+        final ImmutableValue<?> replaced = value(FIRST_KEY);
+        final ImmutableValue<?> second = value(SECOND_KEY);
+        final ImmutableValue<?> third = value(THIRD_KEY);
+        when(this.store.offer(FIRST_KEY, 1)).thenReturn(DataTransactionResult.successReplaceResult(first, replaced));
+        when(this.store.offer(SECOND_KEY, 2)).thenReturn(DataTransactionResult.failResult(second));
+        when(this.store.offer(THIRD_KEY, 3)).thenReturn(DataTransactionResult.errorResult(third));
+
+        final Map<Key<?>, Object> values = new LinkedHashMap<>();
+        values.put(FIRST_KEY, 1);
+        assertEquals(DataTransactionResult.Type.SUCCESS, this.store.offerAll(values).getType());
+        values.put(SECOND_KEY, 2);
+        assertEquals(DataTransactionResult.Type.FAILURE, this.store.offerAll(values).getType());
+        values.put(THIRD_KEY, 3);
+        assertEquals(DataTransactionResult.Type.ERROR, this.store.offerAll(values).getType());
+    }
+
+    @Test
+    public void testOfferAllContinuesAfterFailingKey() {
+        final ImmutableValue<?> rejected = value(FIRST_KEY);
+        final ImmutableValue<?> offered = value(SECOND_KEY);
+        when(this.store.offer(FIRST_KEY, 1)).thenReturn(DataTransactionResult.failResult(rejected));
+        when(this.store.offer(SECOND_KEY, 2)).thenReturn(DataTransactionResult.successResult(offered));
+
+        final Map<Key<?>, Object> values = new LinkedHashMap<>();
+        values.put(FIRST_KEY, 1);
+        values.put(SECOND_KEY, 2);
+        final DataTransactionResult result = this.store.offerAll(values);
+        assertEquals(DataTransactionResult.Type.FAILURE, result.getType());
+        // The value after the failing key is still offered, and isn't undone
+        assertEquals(ImmutableList.of(offered), result.getSuccessfulData());
+        assertEquals(ImmutableList.of(rejected), result.getRejectedData());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testOfferAllRejectsNullValues() {
+        this.store.offerAll(Collections.singletonMap(FIRST_KEY, null));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ImmutableValue<?> value(Key key) {
+        final ImmutableValue value = mock(ImmutableValue.class);
+        when(value.getKey()).thenReturn(key);
+        return value;
+    }
+
+}
@@ -118,5 +118,35 @@ public void testListedArray() {
         assertThat(stringList.equals(fooList), is(true));
     }
 
+    @Test
+    public void testFirstAndLast() {
+        final Cause cause = Cause.builder().append("foo").append(1).append("bar").append(2).build(EventContext.empty());
+        for (int i = 0; i < 2; i++) {
+            // Second iteration hits the cached type index
+            assertThat(cause.first(String.class).get(), is("foo"));
+            assertThat(cause.last(String.class).get(), is("bar"));
+            assertThat(cause.first(Integer.class).get(), is(1));
+            assertThat(cause.last(Integer.class).get(), is(2));
+            assertThat(cause.first(Long.class).isPresent(), is(false));
+            assertThat(cause.last(Long.class).isPresent(), is(false));
+        }
+    }
+
+    @Test
+    public void testContainsType() {
+        final Cause cause = Cause.builder().append("foo").append(1).build(EventContext.empty());
+        assertThat(cause.containsType(Number.class), is(true));
+        assertThat(cause.containsType(Integer.class), is(true));
+        assertThat(cause.containsType(Long.class), is(false));
+        assertThat(cause.containsType(Number.class), is(true));
+    }
+
+    @Test
+    public void testAfterSkipsTrailingMatch() {
+        final Cause cause = Cause.builder().append(1).append("foo").append(2).build(EventContext.empty());
+        assertThat(cause.after(Integer.class).get(), is("foo"));
+        assertThat(cause.before(Integer.class).get(), is("foo"));
+        assertThat(cause.allOf(Integer.class), is(ImmutableList.of(1, 2)));
+    }
 
 }
@@ -0,0 +1,82 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+import org.spongepowered.api.event.cause.EventContext;
+import org.spongepowered.api.event.cause.EventContextKey;
+
+import java.util.Map;
+
+public class EventContextTest {
+
+    private static final EventContextKey<String> FIRST = new TestEventContextKey<>("first", String.class, 0);
+    private static final EventContextKey<Integer> SECOND = new TestEventContextKey<>("second", Integer.class, 1);
+    private static final EventContextKey<String> SPARSE = new TestEventContextKey<>("sparse", String.class, 12);
+
+    @Test
+    public void testGet() {
+        final EventContext context = EventContext.builder().add(SECOND, 2).add(FIRST, "foo").build();
+        assertThat(context.get(FIRST).get(), is("foo"));
+        assertThat(context.require(SECOND), is(2));
+        assertThat(context.get(SPARSE).isPresent(), is(false));
+        assertThat(context.containsKey(FIRST), is(true));
+        assertThat(context.containsKey(SPARSE), is(false));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateKey() {
+        EventContext.builder().add(FIRST, "foo").add(FIRST, "bar");
+    }
+
+    @Test
+    public void testAsMap() {
+        final Map<EventContextKey<?>, Object> map = ImmutableMap.of(FIRST, "foo", SPARSE, "bar");
+        final EventContext context = EventContext.of(map);
+        assertThat(context.asMap(), is(map));
+        assertThat(context.keySet(), is(map.keySet()));
+        assertThat(context.hashCode(), is(map.hashCode()));
+    }
+
+    @Test
+    public void testFrom() {
+        final EventContext context = EventContext.builder().add(SPARSE, "bar").build();
+        final EventContext copy = EventContext.builder().add(FIRST, "foo").from(context).build();
+        assertThat(copy.get(SPARSE).get(), is("bar"));
+        assertThat(copy.get(FIRST).get(), is("foo"));
+        assertThat(EventContext.builder().from(context).build(), is(context));
+    }
+
+    @Test
+    public void testEmpty() {
+        assertThat(EventContext.builder().build(), is(EventContext.empty()));
+        assertThat(EventContext.empty().asMap().isEmpty(), is(true));
+    }
+
+}
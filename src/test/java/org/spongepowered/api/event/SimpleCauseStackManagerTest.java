@@ -0,0 +1,109 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.cause.EventContextKey;
+
+public class SimpleCauseStackManagerTest {
+
+    private static final EventContextKey<String> KEY = new TestEventContextKey<>("key", String.class, 3);
+
+    private CauseStackManager manager;
+
+    @Before
+    public void initialize() {
+        this.manager = new SimpleCauseStackManager();
+    }
+
+    @Test
+    public void testCauseOrder() {
+        this.manager.pushCause("foo").pushCause(1);
+        final Cause cause = this.manager.getCurrentCause();
+        assertThat(cause.root(), is(1));
+        assertThat(cause.last(Object.class).get(), is("foo"));
+        assertThat(this.manager.peekCause(), is(1));
+    }
+
+    @Test
+    public void testCachedUntilChanged() {
+        this.manager.pushCause("foo");
+        final Cause cause = this.manager.getCurrentCause();
+        assertThat(this.manager.getCurrentCause(), sameInstance(cause));
+        this.manager.pushCause("bar");
+        assertThat(this.manager.getCurrentCause().root(), is("bar"));
+        this.manager.popCause();
+        assertThat(this.manager.getCurrentCause(), is(cause));
+    }
+
+    @Test
+    public void testFrameRestoresState() {
+        this.manager.pushCause("foo");
+        this.manager.addContext(KEY, "outer");
+        try (CauseStackManager.StackFrame frame = this.manager.pushCauseFrame()) {
+            frame.pushCause("bar").pushCause("baz");
+            frame.addContext(KEY, "inner");
+            assertThat(frame.getCurrentCause().root(), is("baz"));
+            assertThat(this.manager.requireContext(KEY), is("inner"));
+        }
+        assertThat(this.manager.getCurrentCause().root(), is("foo"));
+        assertThat(this.manager.requireContext(KEY), is("outer"));
+        try (CauseStackManager.StackFrame frame = this.manager.pushCauseFrame()) {
+            frame.removeContext(KEY);
+            assertThat(this.manager.getContext(KEY).isPresent(), is(false));
+        }
+        assertThat(this.manager.getCurrentContext().get(KEY).get(), is("outer"));
+    }
+
+    @Test
+    public void testFramesAreReused() {
+        final CauseStackManager.StackFrame first = this.manager.pushCauseFrame();
+        this.manager.popCauseFrame(first);
+        final CauseStackManager.StackFrame second = this.manager.pushCauseFrame();
+        assertThat(second, sameInstance(first));
+        second.close();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testPopOutOfOrder() {
+        final CauseStackManager.StackFrame outer = this.manager.pushCauseFrame();
+        this.manager.pushCauseFrame();
+        this.manager.popCauseFrame(outer);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testPopBelowFrame() {
+        this.manager.pushCause("foo");
+        this.manager.pushCauseFrame();
+        this.manager.popCause();
+    }
+
+}
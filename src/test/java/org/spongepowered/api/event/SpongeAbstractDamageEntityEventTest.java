@@ -27,7 +27,9 @@
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.Matchers.closeTo;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.when;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import org.hamcrest.Matchers;
 import org.junit.Test;
@@ -36,6 +38,7 @@
 import org.spongepowered.api.event.cause.EventContext;
 import org.spongepowered.api.event.cause.entity.damage.DamageFunction;
 import org.spongepowered.api.event.cause.entity.damage.DamageModifier;
+import org.spongepowered.api.event.cause.entity.damage.DamageModifierType;
 import org.spongepowered.api.event.entity.DamageEntityEvent;
 
 import java.util.List;
@@ -246,6 +249,71 @@ public void testNotApplicableModifer() {
         event.getOriginalModifierDamage(modifier);
     }
 
+    @Test
+    public void testChangeModifiersMidChain() {
+        Entity targetEntity = mockParam(Entity.class);
+
+        DamageModifier firstModifier = mockModifier();
+        DamageModifier secondModifier = mockModifier();
+        DamageModifier thirdModifier = mockModifier();
+        DamageModifier fourthModifier = mockModifier();
+
+        List<DamageFunction> originalFunctions = Lists.newArrayList(
+                DamageFunction.of(firstModifier, p -> p * 2),
+                DamageFunction.of(secondModifier, p -> -p / 4),
+                DamageFunction.of(thirdModifier, p -> 3),
+                DamageFunction.of(fourthModifier, p -> p / 2));
+
+        DamageEntityEvent event = SpongeEventFactory.createDamageEntityEvent(Cause.of(EventContext.empty(), "none"),
+                originalFunctions, targetEntity, 4);
+        assertMatchesRecalculation(event, targetEntity);
+
+        event.setDamage(secondModifier, p -> p);
+        assertMatchesRecalculation(event, targetEntity);
+
+        DamageModifier beforeFourth = mockModifier();
+        event.addDamageModifierBefore(beforeFourth, p -> 1 - p, ImmutableSet.of(fourthModifier.getType()));
+        assertThat(event.getModifiers().get(3).getModifier(), is(beforeFourth));
+        assertMatchesRecalculation(event, targetEntity);
+
+        DamageModifier afterFirst = mockModifier();
+        event.addModifierAfter(afterFirst, p -> p * 3, ImmutableSet.of(firstModifier.getType()));
+        assertThat(event.getModifiers().get(1).getModifier(), is(afterFirst));
+        assertMatchesRecalculation(event, targetEntity);
+
+        event.setBaseDamage(7);
+        assertMatchesRecalculation(event, targetEntity);
+
+        assertThat(event.getOriginalFinalDamage(), is(closeTo(18, ERROR)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateModifiers() {
+        DamageModifier modifier = mockModifier();
+        SpongeEventFactory.createDamageEntityEvent(Cause.of(EventContext.empty(), "none"),
+                Lists.newArrayList(DamageFunction.of(modifier, p -> p), DamageFunction.of(modifier, p -> p * 2)), mockParam(Entity.class), 1);
+    }
+
+    /**
+     * Checks the amounts of an event, which were recalculated incrementally,
+     * against those of a new event with the same modifiers.
+     */
+    private void assertMatchesRecalculation(DamageEntityEvent event, Entity targetEntity) {
+        DamageEntityEvent recalculated = SpongeEventFactory.createDamageEntityEvent(Cause.of(EventContext.empty(), "none"),
+                event.getModifiers(), targetEntity, event.getBaseDamage());
+        for (DamageFunction function : event.getModifiers()) {
+            assertThat(event.getDamage(function.getModifier()), is(closeTo(recalculated.getDamage(function.getModifier()), ERROR)));
+        }
+        assertThat(event.getFinalDamage(), is(closeTo(recalculated.getFinalDamage(), ERROR)));
+    }
+
+    private DamageModifier mockModifier() {
+        DamageModifier modifier = mockParam(DamageModifier.class);
+        DamageModifierType type = mockParam(DamageModifierType.class);
+        when(modifier.getType()).thenReturn(type);
+        return modifier;
+    }
+
     @SuppressWarnings("unchecked")
     private <T> T mockParam(Class<T> clazz) {
         return (T) SpongeEventFactoryTest.mockParam(clazz);
@@ -0,0 +1,197 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event.block;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.spongepowered.api.block.BlockSnapshot;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.data.Transaction;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.World;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class BlockTransactionColumnsTest {
+
+    private final World world = mock(World.class);
+    private final BlockState stone = mock(BlockState.class);
+    private final BlockState dirt = mock(BlockState.class);
+    private final BlockState air = mock(BlockState.class);
+
+    private static Transaction<BlockSnapshot> newTransaction() {
+        return new Transaction<>(mock(BlockSnapshot.class), mock(BlockSnapshot.class));
+    }
+
+    private BlockTransactionColumns columns(int size) {
+        final BlockTransactionColumns.Builder builder = BlockTransactionColumns.builder(1);
+        final BlockState[] states = {this.stone, this.dirt, this.air};
+        for (int i = 0; i < size; i++) {
+            builder.add(this.world, i, i % 16, -i, states[i % 3], states[(i + 1) % 3]);
+        }
+        return builder.build(index -> newTransaction());
+    }
+
+    private static void assertRoundTrip(int x, int y, int z) {
+        final long position = BlockTransactionColumns.pack(x, y, z);
+        assertThat(BlockTransactionColumns.unpackX(position), is(x));
+        assertThat(BlockTransactionColumns.unpackY(position), is(y));
+        assertThat(BlockTransactionColumns.unpackZ(position), is(z));
+    }
+
+    @Test
+    public void testPackRoundTrip() {
+        assertRoundTrip(0, 0, 0);
+        assertRoundTrip(-1, -1, -1);
+        assertRoundTrip(1, 255, -1);
+        assertRoundTrip(-30000000, -64, 30000000);
+        // The limits of the 26, 12 and 26 bits
+        assertRoundTrip(-(1 << 25), -(1 << 11), -(1 << 25));
+        assertRoundTrip((1 << 25) - 1, (1 << 11) - 1, (1 << 25) - 1);
+        assertRoundTrip(-(1 << 25), (1 << 11) - 1, (1 << 25) - 1);
+    }
+
+    @Test
+    public void testBuilder() {
+        final BlockTransactionColumns columns = columns(10);
+        assertThat(columns.size(), is(10));
+        assertThat(columns.getPalette().length, is(3));
+        assertThat(columns.getWorld(4), is(this.world));
+        assertThat(BlockTransactionColumns.unpackZ(columns.getPosition(4)), is(-4));
+        assertThat(columns.getOriginalState(4), is(this.dirt));
+        assertThat(columns.getFinalState(4), is(this.air));
+        assertThat(columns.getPalette()[columns.getOriginalStateId(5)], is(this.air));
+        assertThat(columns.getPalette()[columns.getFinalStateId(5)], is(this.stone));
+    }
+
+    @Test
+    public void testFilterStatesEvaluatesEveryStateOnce() {
+        final BlockTransactionColumns columns = columns(100);
+        final Map<BlockState, Integer> calls = new HashMap<>();
+        final BitSet invalidated = columns.filterOriginalStates(state -> {
+            calls.merge(state, 1, Integer::sum);
+            return state != this.stone;
+        });
+        assertThat(calls.size(), is(3));
+        assertThat(calls.values().stream().allMatch(count -> count == 1), is(true));
+        for (int i = 0; i < 100; i++) {
+            assertThat(invalidated.get(i), is(i % 3 == 0));
+            assertThat(columns.isValid(i), is(i % 3 != 0));
+        }
+
+        calls.clear();
+        final BitSet finalInvalidated = columns.filterFinalStates(state -> {
+            calls.merge(state, 1, Integer::sum);
+            return state == this.stone;
+        });
+        assertThat(calls.size(), is(3));
+        assertThat(calls.values().stream().allMatch(count -> count == 1), is(true));
+        // Transactions that were already invalid aren't invalidated again
+        for (int i = 0; i < 100; i++) {
+            assertThat(finalInvalidated.get(i), is(i % 3 == 1));
+            assertThat(columns.isValid(i), is(i % 3 == 2));
+        }
+    }
+
+    @Test
+    public void testFilterPositions() {
+        final BlockTransactionColumns columns = columns(10);
+        final BitSet invalidated = columns.filter((world, x, y, z) -> x < 5);
+        assertThat(invalidated.cardinality(), is(5));
+        assertThat(invalidated.nextSetBit(0), is(5));
+        assertThat(columns.getTransaction(7).isValid(), is(false));
+        assertThat(columns.getTransaction(2).isValid(), is(true));
+    }
+
+    @Test
+    public void testValidityIsShared() {
+        final BlockTransactionColumns columns = columns(4);
+        final Transaction<BlockSnapshot> before = columns.getTransaction(0);
+        assertThat(columns.getTransaction(0), is(sameInstance(before)));
+
+        // Changes before and after materializing are visible through both views
+        columns.setValid(1, false);
+        assertThat(columns.getTransaction(1).isValid(), is(false));
+        columns.setValid(0, false);
+        assertThat(before.isValid(), is(false));
+        before.setValid(true);
+        assertThat(columns.isValid(0), is(true));
+
+        columns.filterAll();
+        assertThat(before.isValid(), is(false));
+        assertThat(columns.getTransaction(3).isValid(), is(false));
+        for (int i = 0; i < columns.size(); i++) {
+            assertThat(columns.isValid(i), is(false));
+        }
+
+        columns.setValid(2, true);
+        assertThat(columns.getTransaction(2).isValid(), is(true));
+    }
+
+    @Test
+    public void testOfKeepsTransactions() {
+        final List<Transaction<BlockSnapshot>> transactions = ImmutableList.of(
+                transaction(new Vector3i(1, 2, 3), this.stone, this.air),
+                transaction(new Vector3i(-4, 5, -6), this.air, this.stone));
+        final BlockTransactionColumns columns = BlockTransactionColumns.of(transactions);
+        assertThat(columns.size(), is(2));
+        for (int i = 0; i < transactions.size(); i++) {
+            assertThat(columns.getTransaction(i), is(sameInstance(transactions.get(i))));
+        }
+        assertThat(columns.getPalette().length, is(2));
+        assertThat(BlockTransactionColumns.unpackX(columns.getPosition(1)), is(-4));
+        assertThat(BlockTransactionColumns.unpackY(columns.getPosition(1)), is(5));
+        assertThat(BlockTransactionColumns.unpackZ(columns.getPosition(1)), is(-6));
+        assertThat(columns.getOriginalState(1), is(this.air));
+        assertThat(columns.getFinalState(1), is(this.stone));
+
+        columns.setValid(0, false);
+        assertThat(transactions.get(0).isValid(), is(false));
+        transactions.get(1).setValid(false);
+        assertThat(columns.isValid(1), is(false));
+    }
+
+    private Transaction<BlockSnapshot> transaction(Vector3i position, BlockState originalState, BlockState finalState) {
+        final BlockSnapshot original = mock(BlockSnapshot.class);
+        when(original.getLocation()).thenReturn(Optional.of(new Location<>(this.world, position)));
+        when(original.getPosition()).thenReturn(position);
+        when(original.getState()).thenReturn(originalState);
+        final BlockSnapshot replacement = mock(BlockSnapshot.class);
+        when(replacement.getState()).thenReturn(finalState);
+        return new Transaction<>(original, replacement);
+    }
+
+}
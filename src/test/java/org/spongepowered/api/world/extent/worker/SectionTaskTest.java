@@ -0,0 +1,89 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.worker;
+
+import static org.junit.Assert.assertEquals;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class SectionTaskTest {
+
+    // Unaligned on every axis, crossing zero on x and y
+    private static final Vector3i MIN = new Vector3i(-17, -3, 5);
+    private static final Vector3i MAX = new Vector3i(18, 20, 40);
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @Test
+    public void testVisitsEveryPositionOnce() {
+        final Vector3i size = MAX.sub(MIN).add(Vector3i.ONE);
+        final AtomicIntegerArray visits = new AtomicIntegerArray(size.getX() * size.getY() * size.getZ());
+        SectionTask.invoke(this.pool, MIN, MAX, (x, y, z) -> {
+            final int index = ((y - MIN.getY()) * size.getZ() + z - MIN.getZ()) * size.getX() + x - MIN.getX();
+            visits.incrementAndGet(index);
+        });
+        for (int i = 0; i < visits.length(); i++) {
+            assertEquals(1, visits.get(i));
+        }
+    }
+
+    @Test
+    public void testSingleBlockVolume() {
+        final AtomicIntegerArray visits = new AtomicIntegerArray(1);
+        SectionTask.invoke(this.pool, MIN, MIN, (x, y, z) -> {
+            assertEquals(MIN, new Vector3i(x, y, z));
+            visits.incrementAndGet(0);
+        });
+        assertEquals(1, visits.get(0));
+    }
+
+    @Test
+    public void testReduceMergesSectionsInOrder() {
+        final List<List<Integer>> expected = new ArrayList<>();
+        for (int sx = Math.floorDiv(MIN.getX(), 16); sx <= Math.floorDiv(MAX.getX(), 16); sx++) {
+            for (int sy = Math.floorDiv(MIN.getY(), 16); sy <= Math.floorDiv(MAX.getY(), 16); sy++) {
+                for (int sz = Math.floorDiv(MIN.getZ(), 16); sz <= Math.floorDiv(MAX.getZ(), 16); sz++) {
+                    expected.add(ImmutableList.of(
+                            Math.max(MIN.getX(), sx * 16), Math.max(MIN.getY(), sy * 16), Math.max(MIN.getZ(), sz * 16),
+                            Math.min(MAX.getX(), sx * 16 + 15), Math.min(MAX.getY(), sy * 16 + 15), Math.min(MAX.getZ(), sz * 16 + 15)));
+                }
+            }
+        }
+        final List<List<Integer>> sections = SectionTask.invoke(this.pool, MIN, MAX,
+                (xMin, yMin, zMin, xMax, yMax, zMax) -> ImmutableList.of(ImmutableList.of(xMin, yMin, zMin, xMax, yMax, zMax)),
+                (first, second) -> ImmutableList.<List<Integer>>builder().addAll(first).addAll(second).build());
+        // 4 sections on x, 3 on y and 3 on z
+        assertEquals(36, sections.size());
+        assertEquals(expected, sections);
+    }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.plugin.processor;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.spongepowered.api.event.CompiledListeners;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+public class ListenerProcessorTest {
+
+    private static final String LISTENER = String.join("\n",
+            "package com.example;",
+            "",
+            "import org.spongepowered.api.event.Event;",
+            "import org.spongepowered.api.event.Listener;",
+            "import org.spongepowered.api.event.Order;",
+            "import org.spongepowered.api.event.filter.Getter;",
+            "import org.spongepowered.api.event.filter.cause.First;",
+            "",
+            "public class TestListener {",
+            "",
+            "    public interface Named {}",
+            "",
+            "    public interface NamedEvent extends Event {",
+            "        Named getNamed();",
+            "    }",
+            "",
+            "    @Listener",
+            "    public void onEvent(Event event) {}",
+            "",
+            "    @Listener(order = Order.LAST)",
+            "    public void onNamed(NamedEvent event, @First String source, @Getter(\"getNamed\") Named named) {}",
+            "",
+            "}");
+
+    private static final String GENERATED = "com/example/TestListener_CompiledListeners";
+
+    @Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+    private File sourceOutput;
+    private File classOutput;
+
+    @Test
+    public void testCompiledListeners() throws Exception {
+        compile("com.example.TestListener", LISTENER);
+
+        final String source = read(new File(this.sourceOutput, GENERATED + ".java"));
+        assertThat(source, containsString("implements org.spongepowered.api.event.CompiledListeners<com.example.TestListener>"));
+        assertThat(source, containsString("\"onEvent\", org.spongepowered.api.event.Order.DEFAULT, false, false, new Invoker0(listener)"));
+        assertThat(source, containsString("\"onNamed\", org.spongepowered.api.event.Order.LAST, false, false, new Invoker1(listener)"));
+        // The filters are applied by the invoker
+        assertThat(source, containsString("event.getCause().first(java.lang.String.class)"));
+        assertThat(source, containsString("= event.getNamed();"));
+        assertThat(source, containsString("this.listener.onNamed(event, arg1, arg2);"));
+
+        assertEquals(ImmutableList.of("com.example.TestListener com.example.TestListener_CompiledListeners"), readIndex());
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {this.classOutput.toURI().toURL()}, getClass().getClassLoader())) {
+            final CompiledListeners<?> compiled = (CompiledListeners<?>) loader.loadClass(GENERATED.replace('/', '.')).newInstance();
+            assertEquals(loader.loadClass("com.example.TestListener"), compiled.getListenerClass());
+        }
+    }
+
+    @Test
+    public void testListenersWhichCannotBeCompiledAreNotIndexed() throws Exception {
+        compile("com.example.ThrowingListener", String.join("\n",
+                "package com.example;",
+                "",
+                "import org.spongepowered.api.event.Event;",
+                "import org.spongepowered.api.event.Listener;",
+                "",
+                "public class ThrowingListener {",
+                "",
+                "    @Listener",
+                "    public void onEvent(Event event) {}",
+                "",
+                "    @Listener",
+                "    public void onThrowingEvent(Event event) throws Throwable {}",
+                "",
+                "}"));
+
+        assertFalse(new File(this.sourceOutput, "com/example/ThrowingListener_CompiledListeners.java").exists());
+        assertFalse(new File(this.classOutput, CompiledListeners.INDEX_RESOURCE).exists());
+    }
+
+    private void compile(String className, String source) throws IOException {
+        this.sourceOutput = this.folder.newFolder("generated");
+        this.classOutput = this.folder.newFolder("classes");
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, Collections.singleton(this.sourceOutput));
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singleton(this.classOutput));
+            final List<String> options = Arrays.asList("-classpath", System.getProperty("java.class.path"));
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                    Collections.singleton(new Source(className, source)));
+            task.setProcessors(Collections.singleton(new ListenerProcessor()));
+            assertTrue(diagnostics.getDiagnostics().toString(), task.call());
+        }
+    }
+
+    private List<String> readIndex() throws IOException {
+        return Files.readAllLines(new File(this.classOutput, CompiledListeners.INDEX_RESOURCE).toPath(), StandardCharsets.UTF_8);
+    }
+
+    private static String read(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+
+    private static final class Source extends SimpleJavaFileObject {
+
+        private final String source;
+
+        Source(String className, String source) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return this.source;
+        }
+
+    }
+
+}